@@ -0,0 +1,65 @@
+package com.study.querydsl.benchmark;
+
+import com.study.querydsl.QuerydslApplication;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * packageName    : com.study.querydsl.benchmark
+ * fileName       : BenchmarkSupport
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 벤치마크 공통, bench 프로필(in-memory H2)로 컨텍스트를 띄우고 재현 가능한 데이터 적재
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class BenchmarkSupport {
+
+    public static final long SEED = 42L;
+
+    private BenchmarkSupport() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(QuerydslApplication.class)
+                .profiles("bench")
+                .web(WebApplicationType.NONE)
+                .run();
+    }
+
+    /**
+     * TeamA ~ Team{teams-1}, member{i} 를 members 건 적재.
+     * age는 고정 seed 난수(0 ~ 99)라 실행할 때마다 같은 데이터가 만들어진다.
+     */
+    public static void loadMembers(ConfigurableApplicationContext context, int teams, int members) {
+        EntityManager em = context.getBean(EntityManager.class);
+        TransactionTemplate tx = context.getBean(TransactionTemplate.class);
+        SplittableRandom random = new SplittableRandom(SEED);
+        tx.executeWithoutResult(status -> {
+            List<Team> teamList = new ArrayList<>();
+            for (int i = 0; i < teams; i++) {
+                Team team = new Team("Team" + (char) ('A' + i));
+                em.persist(team);
+                teamList.add(team);
+            }
+            for (int i = 0; i < members; i++) {
+                em.persist(new Member("member" + i, random.nextInt(100), teamList.get(i % teams)));
+                if (i % 1000 == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        });
+    }
+}
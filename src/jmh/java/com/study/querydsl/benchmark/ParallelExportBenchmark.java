@@ -0,0 +1,71 @@
+package com.study.querydsl.benchmark;
+
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.repository.MemberParallelExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.study.querydsl.benchmark
+ * fileName       : ParallelExportBenchmark
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : member_id 구간 병렬 export, 파티션 수(=커넥션 수)별 전체 조회 시간 (H2, 200,000건)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ParallelExportBenchmark {
+
+    // 1 = 단일 커넥션 스캔 기준값
+    @Param({"1", "2", "4", "8"})
+    public int partitions;
+
+    @Param({"false", "true"})
+    public boolean ordered;
+
+    private ConfigurableApplicationContext context;
+    private MemberParallelExporter exporter;
+    private MemberSearchCondition condition;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkSupport.start();
+        BenchmarkSupport.loadMembers(context, 4, 200_000);
+        exporter = context.getBean(MemberParallelExporter.class);
+
+        condition = new MemberSearchCondition();
+        condition.setAgeGoe(10);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long export(Blackhole blackhole) {
+        return exporter.export(condition, partitions, ordered, blackhole::consume);
+    }
+}
@@ -0,0 +1,109 @@
+package com.study.querydsl.benchmark;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.dto.QMemberTeamDto;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.repository.MemberJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+
+/**
+ * packageName    : com.study.querydsl.benchmark
+ * fileName       : PreparedQueryBenchmark
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 매 호출마다 JPAQuery/QMemberTeamDto를 만드는 방식 vs PreparedJpaQuery
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreparedQueryBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate tx;
+    private JPAQueryFactory queryFactory;
+    private MemberJpaRepository memberJpaRepository;
+    private MemberSearchCondition condition;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkSupport.start();
+        BenchmarkSupport.loadMembers(context, 4, 1_000);
+        tx = context.getBean(TransactionTemplate.class);
+        queryFactory = context.getBean(JPAQueryFactory.class);
+        memberJpaRepository = context.getBean(MemberJpaRepository.class);
+
+        condition = new MemberSearchCondition();
+        condition.setTeamname("TeamB");
+        condition.setAgeGoe(90);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MemberTeamDto> searchPerCall() {
+        return tx.execute(status -> queryFactory
+                .select(new QMemberTeamDto(
+                        member.id.as("memberId"),
+                        member.username,
+                        member.age,
+                        team.id.as("teamId"),
+                        team.name.as("teamName")
+                ))
+                .from(member)
+                // MemberSearchQueryCache와 같은 SQL이 되도록 팀명 조건이 있으면 inner join (쿼리 준비 비용만 비교)
+                .join(member.team, team)
+                .where(
+                        team.name.eq(condition.getTeamname()),
+                        member.age.goe(condition.getAgeGoe())
+                )
+                .fetch());
+    }
+
+    @Benchmark
+    public List<MemberTeamDto> searchPrepared() {
+        return tx.execute(status -> memberJpaRepository.search(condition));
+    }
+
+    @Benchmark
+    public List<Member> findByUsernamePerCall() {
+        return tx.execute(status -> queryFactory
+                .selectFrom(member)
+                .where(member.username.eq("member500"))
+                .fetch());
+    }
+
+    @Benchmark
+    public List<Member> findByUsernamePrepared() {
+        return tx.execute(status -> memberJpaRepository.findByUsername_querydsl("member500"));
+    }
+}
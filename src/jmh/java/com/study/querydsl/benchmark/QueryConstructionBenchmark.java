@@ -0,0 +1,157 @@
+package com.study.querydsl.benchmark;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.dto.QMemberTeamDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+
+/**
+ * packageName    : com.study.querydsl.benchmark
+ * fileName       : QueryConstructionBenchmark
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : DB 없이 쿼리 생성(BooleanBuilder vs where 파라미터)과 JPQL 직렬화 비용만 측정
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryConstructionBenchmark {
+
+    // full : 조건 4개 모두, team : 팀명만, none : 조건 없음
+    @Param({"full", "team", "none"})
+    public String shape;
+
+    private ConfigurableApplicationContext context;
+    private JPAQueryFactory queryFactory;
+    private MemberSearchCondition condition;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkSupport.start();
+        queryFactory = context.getBean(JPAQueryFactory.class);
+
+        condition = new MemberSearchCondition();
+        if (!"none".equals(shape)) {
+            condition.setTeamname("TeamB");
+        }
+        if ("full".equals(shape)) {
+            condition.setUsername("member1");
+            condition.setAgeGoe(10);
+            condition.setAgeLoe(40);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public JPAQuery<MemberTeamDto> buildBooleanBuilder() {
+        return booleanBuilderQuery();
+    }
+
+    @Benchmark
+    public JPAQuery<MemberTeamDto> buildWhereParams() {
+        return whereParamsQuery();
+    }
+
+    @Benchmark
+    public String serializeBooleanBuilder() {
+        return booleanBuilderQuery().toString();
+    }
+
+    @Benchmark
+    public String serializeWhereParams() {
+        return whereParamsQuery().toString();
+    }
+
+    private JPAQuery<MemberTeamDto> booleanBuilderQuery() {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (StringUtils.hasText(condition.getUsername())) {
+            builder.and(member.username.eq(condition.getUsername()));
+        }
+        if (StringUtils.hasText(condition.getTeamname())) {
+            builder.and(team.name.eq(condition.getTeamname()));
+        }
+        if (condition.getAgeGoe() != null) {
+            builder.and(member.age.goe(condition.getAgeGoe()));
+        }
+        if (condition.getAgeLoe() != null) {
+            builder.and(member.age.loe(condition.getAgeLoe()));
+        }
+        return queryFactory
+                .select(projection())
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(builder);
+    }
+
+    private JPAQuery<MemberTeamDto> whereParamsQuery() {
+        return queryFactory
+                .select(projection())
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(
+                        usernameEq(condition.getUsername()),
+                        teamNameEq(condition.getTeamname()),
+                        ageGoe(condition.getAgeGoe()),
+                        ageLoe(condition.getAgeLoe())
+                );
+    }
+
+    private static QMemberTeamDto projection() {
+        return new QMemberTeamDto(
+                member.id.as("memberId"),
+                member.username,
+                member.age,
+                team.id.as("teamId"),
+                team.name.as("teamName")
+        );
+    }
+
+    private static BooleanExpression usernameEq(String username) {
+        return StringUtils.hasText(username) ? member.username.eq(username) : null;
+    }
+
+    private static BooleanExpression teamNameEq(String teamname) {
+        return StringUtils.hasText(teamname) ? team.name.eq(teamname) : null;
+    }
+
+    private static BooleanExpression ageGoe(Integer ageGoe) {
+        return ageGoe != null ? member.age.goe(ageGoe) : null;
+    }
+
+    private static BooleanExpression ageLoe(Integer ageLoe) {
+        return ageLoe != null ? member.age.loe(ageLoe) : null;
+    }
+}
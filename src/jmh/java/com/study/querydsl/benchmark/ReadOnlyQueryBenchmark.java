@@ -0,0 +1,131 @@
+package com.study.querydsl.benchmark;
+
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.repository.EntityReadMode;
+import com.study.querydsl.repository.MemberJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.study.querydsl.benchmark
+ * fileName       : ReadOnlyQueryBenchmark
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 쓰기 트랜잭션에서 Member 100k건을 MANAGED vs READ_ONLY로 읽었을 때 flush 시간과 남는 heap
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReadOnlyQueryBenchmark {
+
+    private static final int MEMBERS = 100_000;
+
+    @Param({"MANAGED", "READ_ONLY"})
+    public EntityReadMode mode;
+
+    private ConfigurableApplicationContext context;
+    private PlatformTransactionManager transactionManager;
+    private EntityManager em;
+    private MemberJpaRepository memberJpaRepository;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkSupport.start();
+        BenchmarkSupport.loadMembers(context, 4, MEMBERS);
+        transactionManager = context.getBean(PlatformTransactionManager.class);
+        em = context.getBean(EntityManager.class);
+        memberJpaRepository = context.getBean(MemberJpaRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 쓰기 트랜잭션을 열고 mode로 100k건을 읽어 둔 상태, 측정 후 롤백.
+     */
+    @State(Scope.Thread)
+    public static class Loaded {
+
+        TransactionStatus status;
+        List<Member> members;
+
+        @Setup(Level.Invocation)
+        public void load(ReadOnlyQueryBenchmark benchmark) {
+            status = benchmark.transactionManager.getTransaction(new DefaultTransactionDefinition());
+            members = benchmark.memberJpaRepository.findAll_querydsl(benchmark.mode);
+        }
+
+        @TearDown(Level.Invocation)
+        public void rollback(ReadOnlyQueryBenchmark benchmark) {
+            benchmark.transactionManager.rollback(status);
+            members = null;
+        }
+    }
+
+    // retainedKb : 100k건을 읽은 뒤 GC 후에도 남아 있는 heap 증가분 (엔티티 + 영속성 컨텍스트 스냅샷)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Heap {
+
+        public long retainedKb;
+    }
+
+    // 변경이 없어도 MANAGED는 100k건 모두 스냅샷과 비교, READ_ONLY는 건너뛴다.
+    @Benchmark
+    public void flush(Loaded loaded) {
+        em.flush();
+    }
+
+    // 시간은 GC 포함이라 의미 없고 retainedKb만 본다.
+    @Benchmark
+    public int load(Heap heap) {
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try {
+            long before = usedHeapAfterGc();
+            List<Member> members = memberJpaRepository.findAll_querydsl(mode);
+            heap.retainedKb = (usedHeapAfterGc() - before) / 1024;
+            return members.size();
+        } finally {
+            transactionManager.rollback(status);
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
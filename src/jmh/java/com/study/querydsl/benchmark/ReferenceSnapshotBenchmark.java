@@ -0,0 +1,99 @@
+package com.study.querydsl.benchmark;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.dto.QMemberTeamDto;
+import com.study.querydsl.dto.TeamDto;
+import com.study.querydsl.repository.ReferenceDataSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+
+/**
+ * packageName    : com.study.querydsl.benchmark
+ * fileName       : ReferenceSnapshotBenchmark
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 같은 QMember/QTeam 조건을 SQL vs ReferenceDataSnapshot(메모리)으로
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReferenceSnapshotBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate tx;
+    private JPAQueryFactory queryFactory;
+    private ReferenceDataSnapshot referenceDataSnapshot;
+    private Predicate hotFilter;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkSupport.start();
+        BenchmarkSupport.loadMembers(context, 4, 1_000);
+        tx = context.getBean(TransactionTemplate.class);
+        queryFactory = context.getBean(JPAQueryFactory.class);
+        referenceDataSnapshot = context.getBean(ReferenceDataSnapshot.class);
+        hotFilter = team.name.eq("TeamB").and(member.age.between(90, 99));
+        referenceDataSnapshot.findTeams(null); // 스냅샷 적재
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MemberTeamDto> membersSql() {
+        return tx.execute(status -> queryFactory
+                .select(new QMemberTeamDto(member.id, member.username, member.age, team.id, team.name))
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(hotFilter)
+                .fetch());
+    }
+
+    @Benchmark
+    public List<MemberTeamDto> membersSnapshot() {
+        return referenceDataSnapshot.findMembers(hotFilter);
+    }
+
+    @Benchmark
+    public List<TeamDto> teamByNameSql() {
+        return tx.execute(status -> queryFactory
+                .select(Projections.constructor(TeamDto.class, team.id, team.name))
+                .from(team)
+                .where(team.name.eq("TeamC"))
+                .fetch());
+    }
+
+    @Benchmark
+    public List<TeamDto> teamByNameSnapshot() {
+        return referenceDataSnapshot.findTeams(team.name.eq("TeamC"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.study.querydsl.benchmark;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.UsernameSuggestion;
+import com.study.querydsl.repository.UsernamePrefixIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.study.querydsl.entity.QMember.member;
+
+/**
+ * packageName    : com.study.querydsl.benchmark
+ * fileName       : UsernameAutocompleteBenchmark
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : username 접두사 top-10, SQL like 'prefix%' vs UsernamePrefixIndex
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UsernameAutocompleteBenchmark {
+
+    private static final int LIMIT = 10;
+
+    // member1 : 11111건 중 앞 10건, member4321 : 11건 중 10건
+    @Param({"member1", "member4321"})
+    public String prefix;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate tx;
+    private JPAQueryFactory queryFactory;
+    private UsernamePrefixIndex usernamePrefixIndex;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkSupport.start();
+        usernamePrefixIndex = context.getBean(UsernamePrefixIndex.class);
+        BenchmarkSupport.loadMembers(context, 4, 100_000);
+        tx = context.getBean(TransactionTemplate.class);
+        queryFactory = context.getBean(JPAQueryFactory.class);
+        // 적재 중 반영된 delta 대신 한 번에 스캔한 상태에서 측정
+        usernamePrefixIndex.invalidate();
+        usernamePrefixIndex.suggest(prefix, LIMIT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UsernameSuggestion> sql() {
+        return tx.execute(status -> queryFactory
+                .select(member.id, member.username)
+                .from(member)
+                .where(member.username.startsWith(prefix))
+                .orderBy(member.username.asc(), member.id.asc())
+                .limit(LIMIT)
+                .fetch()
+                .stream()
+                .map(row -> new UsernameSuggestion(row.get(member.id), row.get(member.username)))
+                .toList());
+    }
+
+    @Benchmark
+    public List<UsernameSuggestion> index() {
+        return usernamePrefixIndex.suggest(prefix, LIMIT);
+    }
+}
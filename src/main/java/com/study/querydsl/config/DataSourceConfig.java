@@ -0,0 +1,92 @@
+package com.study.querydsl.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName    : com.study.querydsl.config
+ * fileName       : DataSourceConfig
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : spring.datasource(primary) + app.datasource.replica.urls(replica)를 묶은 라우팅 DataSource
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * DataSource 빈은 이것 하나, primary/replica 풀은 빈으로 등록하지 않는다. (p6spy가 이 빈만 감싸서 SQL이 한 번씩만 기록됨)
+     * 풀 설정(spring.datasource.hikari.*)은 primary, replica 모두 같은 값을 쓰고 replica 풀은 readOnly.
+     * replica.urls가 비어 있으면 모든 트랜잭션이 primary로 간다.
+     */
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 @Value("${app.datasource.replica.urls:}") List<String> replicaUrls,
+                                 @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+                                 @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+                                 @Value("${app.datasource.replica.health-check-interval:5s}") Duration healthCheckInterval) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configurePool(primary, environment, "primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            configurePool(replica, environment, "replica-" + replicas.size());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new LazyRoutingDataSource(new ReplicaRoutingDataSource(primary, replicas, healthCheckInterval));
+    }
+
+    private static void configurePool(HikariDataSource dataSource, Environment environment, String poolName) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+    }
+
+    /**
+     * JpaTransactionManager는 트랜잭션을 시작하면서 커넥션을 먼저 얻고, readOnly 표시는 그 뒤에 한다.
+     * 실제 커넥션을 첫 쿼리 시점에 얻도록 미뤄야 ReplicaRoutingDataSource가 readOnly 여부를 볼 수 있다.
+     * 컨텍스트 종료 시 close()로 풀과 health check를 정리한다.
+     */
+    static class LazyRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+        LazyRoutingDataSource(ReplicaRoutingDataSource routingDataSource) {
+            super(routingDataSource);
+        }
+
+        ReplicaRoutingDataSource routingDataSource() {
+            return (ReplicaRoutingDataSource) obtainTargetDataSource();
+        }
+
+        @Override
+        public void close() throws IOException {
+            routingDataSource().close();
+        }
+    }
+}
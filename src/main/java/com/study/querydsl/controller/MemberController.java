@@ -0,0 +1,160 @@
+package com.study.querydsl.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.dto.UsernameSuggestion;
+import com.study.querydsl.monitor.UsernameIndexStats;
+import com.study.querydsl.repository.DbAdmissionLimiter;
+import com.study.querydsl.repository.DbAdmissionTimeoutException;
+import com.study.querydsl.repository.MemberJpaRepository;
+import com.study.querydsl.repository.MemberParallelExporter;
+import com.study.querydsl.repository.UsernamePrefixIndex;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * packageName    : com.study.querydsl.controller
+ * fileName       : MemberController
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 회원 검색 API (spring.threads.virtual.enabled=true, JDK 21 이상이면 virtual thread에서 실행)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@RestController
+public class MemberController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final MemberJpaRepository memberJpaRepository;
+    private final MemberParallelExporter memberParallelExporter;
+    private final UsernamePrefixIndex usernamePrefixIndex;
+    private final DbAdmissionLimiter dbAdmissionLimiter;
+    // 한 줄씩 쓰므로 값마다 flush 하지 않고, 스트림은 servlet이 닫는다.
+    private final ObjectWriter ndjsonWriter;
+    private final int exportFetchSize;
+    private final int exportFlushRows;
+
+    public MemberController(MemberJpaRepository memberJpaRepository, MemberParallelExporter memberParallelExporter,
+                            UsernamePrefixIndex usernamePrefixIndex, DbAdmissionLimiter dbAdmissionLimiter,
+                            ObjectMapper objectMapper,
+                            @Value("${app.member.export.fetch-size:500}") int exportFetchSize,
+                            @Value("${app.member.export.flush-rows:500}") int exportFlushRows) {
+        this.memberJpaRepository = memberJpaRepository;
+        this.memberParallelExporter = memberParallelExporter;
+        this.usernamePrefixIndex = usernamePrefixIndex;
+        this.dbAdmissionLimiter = dbAdmissionLimiter;
+        this.ndjsonWriter = objectMapper.writerFor(MemberTeamDto.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.exportFetchSize = exportFetchSize;
+        this.exportFlushRows = exportFlushRows;
+    }
+
+    // GET /members/search?username=&teamname=&ageGoe=&ageLoe=
+    @GetMapping("/members/search")
+    public List<MemberTeamDto> search(MemberSearchCondition condition){
+        try {
+            // 트랜잭션(읽기 전용 -> replica)은 repository 메서드의 @Transactional(readOnly = true)
+            // open-in-view를 끄므로(application.yml) 커넥션은 그 트랜잭션 종료 시 반납, permit 범위 = 커넥션 사용 범위
+            return dbAdmissionLimiter.call(() -> memberJpaRepository.search(condition));
+        } catch (DbAdmissionTimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    // GET /members/autocomplete?prefix=mem&limit=10 , 메모리 인덱스에서만 찾으므로 DB permit을 받지 않는다.
+    @GetMapping("/members/autocomplete")
+    public List<UsernameSuggestion> autocomplete(@RequestParam String prefix,
+                                                 @RequestParam(defaultValue = "10") int limit){
+        if (limit < 1 || limit > UsernamePrefixIndex.MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + UsernamePrefixIndex.MAX_LIMIT + ": " + limit);
+        }
+        return usernamePrefixIndex.suggest(prefix, limit);
+    }
+
+    // 인덱스 항목 수, 메모리 추정치
+    @GetMapping("/members/autocomplete/stats")
+    public UsernameIndexStats autocompleteStats(){
+        return usernamePrefixIndex.stats();
+    }
+
+    /**
+     * GET /members/export?... , search와 같은 조건으로 한 줄에 MemberTeamDto 하나(NDJSON).
+     * DB 커서(fetch-size)에서 읽는 대로 응답 스트림에 쓰고 flush-rows마다 내보낸다.
+     * 클라이언트가 느리면 소켓 write가 블록되어 커서도 멈추므로 메모리에는 fetch-size + 출력 버퍼만큼만 남는다.
+     * 대신 그동안 트랜잭션/커넥션(DB permit)을 잡고 있다.
+     * partitions > 1 이면 member_id 구간별 병렬 조회(MemberParallelExporter), ordered=false면 순서 없음.
+     */
+    @GetMapping(value = "/members/export", produces = NDJSON)
+    public void export(MemberSearchCondition condition,
+                       @RequestParam(defaultValue = "1") int partitions,
+                       @RequestParam(defaultValue = "true") boolean ordered,
+                       HttpServletResponse response) throws IOException {
+        if (partitions < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "partitions must be positive: " + partitions);
+        }
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out = response.getOutputStream();
+        try {
+            long rows;
+            if (partitions == 1) {
+                rows = dbAdmissionLimiter.call(() -> writeRows(out,
+                        sink -> memberJpaRepository.searchEach(condition, exportFetchSize, sink)));
+            } else {
+                // 파티션마다 permit을 받으므로 여기서는 잡지 않는다.
+                rows = writeRows(out, sink -> memberParallelExporter.export(condition, partitions, ordered, sink));
+            }
+            if (rows > 0) {
+                out.write('\n');
+            }
+            out.flush();
+        } catch (DbAdmissionTimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등
+            throw e.getCause();
+        }
+    }
+
+    // source가 넘겨주는 행을 NDJSON으로 쓰고 쓴 행 수를 반환
+    private long writeRows(OutputStream out, Consumer<Consumer<MemberTeamDto>> source) {
+        long[] rows = {0};
+        try (SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+            source.accept(dto -> {
+                try {
+                    writer.write(dto);
+                    if (++rows[0] % exportFlushRows == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows[0];
+    }
+}
@@ -0,0 +1,53 @@
+package com.study.querydsl.controller;
+
+import com.study.querydsl.monitor.QueryStatistics;
+import com.study.querydsl.monitor.QueryStatsSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * packageName    : com.study.querydsl.controller
+ * fileName       : QueryStatsController
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 쿼리 fingerprint별 통계 top-N
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@RestController
+@ConditionalOnProperty(name = "app.query-stats.enabled", havingValue = "true") // QueryStatistics와 같이
+@RequiredArgsConstructor
+public class QueryStatsController {
+
+    private final QueryStatistics queryStatistics;
+
+    // GET /query-stats?sort=p99&limit=10 , sort : total, calls, rows, mean, p99, max
+    @GetMapping("/query-stats")
+    public List<QueryStatsSnapshot> top(@RequestParam(defaultValue = "total") String sort,
+                                        @RequestParam(defaultValue = "20") int limit){
+        QueryStatistics.Sort order;
+        try {
+            order = QueryStatistics.Sort.from(sort);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unknown sort: " + sort);
+        }
+        return queryStatistics.top(order, Math.max(limit, 0));
+    }
+
+    @DeleteMapping("/query-stats")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void reset(){
+        queryStatistics.reset();
+    }
+}
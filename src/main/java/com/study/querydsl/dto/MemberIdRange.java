@@ -0,0 +1,49 @@
+package com.study.querydsl.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName    : com.study.querydsl.dto
+ * fileName       : MemberIdRange
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : member_id 구간 [fromId, toId), 병렬 export 분할 단위
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record MemberIdRange(long fromId, long toId) {
+
+    public MemberIdRange {
+        if (fromId > toId) {
+            throw new IllegalArgumentException("fromId > toId: " + fromId + " > " + toId);
+        }
+    }
+
+    // min ~ max(포함) 구간
+    public static MemberIdRange closed(long minId, long maxId) {
+        return new MemberIdRange(minId, maxId + 1);
+    }
+
+    /**
+     * id 공간을 partitions개로 균등 분할, 구간이 id 수보다 많으면 빈 구간은 만들지 않는다.
+     * 시퀀스 id라 구멍이 있어도 구간별 행 수는 대체로 비슷하다.
+     */
+    public List<MemberIdRange> split(int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions must be positive: " + partitions);
+        }
+        long width = toId - fromId;
+        int n = (int) Math.max(1, Math.min(partitions, width));
+        List<MemberIdRange> ranges = new ArrayList<>(n);
+        long from = fromId;
+        for (int i = 1; i <= n; i++) {
+            long to = i == n ? toId : fromId + width * i / n;
+            ranges.add(new MemberIdRange(from, to));
+            from = to;
+        }
+        return ranges;
+    }
+}
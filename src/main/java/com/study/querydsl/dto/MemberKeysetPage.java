@@ -0,0 +1,21 @@
+package com.study.querydsl.dto;
+
+import java.util.List;
+
+/**
+ * packageName    : com.study.querydsl.dto
+ * fileName       : MemberKeysetPage
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : keyset 페이징 결과, 다음 페이지가 없으면 nextCursor == null
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record MemberKeysetPage(List<MemberTeamDto> content, MemberSearchCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
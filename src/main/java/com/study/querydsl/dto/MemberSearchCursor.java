@@ -0,0 +1,19 @@
+package com.study.querydsl.dto;
+
+/**
+ * packageName    : com.study.querydsl.dto
+ * fileName       : MemberSearchCursor
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : keyset 페이징용 커서, 마지막으로 조회한 (age, memberId)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record MemberSearchCursor(int age, Long memberId) {
+
+    public static MemberSearchCursor of(MemberTeamDto last) {
+        return new MemberSearchCursor(last.getAge(), last.getMemberId());
+    }
+}
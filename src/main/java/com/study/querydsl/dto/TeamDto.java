@@ -0,0 +1,15 @@
+package com.study.querydsl.dto;
+
+/**
+ * packageName    : com.study.querydsl.dto
+ * fileName       : TeamDto
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 팀 id, 이름 (ReferenceDataSnapshot 조회 결과)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record TeamDto(Long teamId, String name) {
+}
@@ -0,0 +1,24 @@
+package com.study.querydsl.dto;
+
+/**
+ * packageName    : com.study.querydsl.dto
+ * fileName       : TeamStats
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 팀별 회원 나이 집계 (count, sum, min, max), 회원이 없으면 min/max는 null
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record TeamStats(Long teamId, long count, long ageSum, Integer minAge, Integer maxAge) {
+
+    public static TeamStats empty(Long teamId) {
+        return new TeamStats(teamId, 0, 0, null, null);
+    }
+
+    // member.age.avg()와 같은 값, 회원이 없으면 null
+    public Double ageAvg() {
+        return count == 0 ? null : (double) ageSum / count;
+    }
+}
@@ -0,0 +1,15 @@
+package com.study.querydsl.dto;
+
+/**
+ * packageName    : com.study.querydsl.dto
+ * fileName       : UsernameSuggestion
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : username 자동완성 결과 한 건 (UsernamePrefixIndex)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record UsernameSuggestion(Long memberId, String username) {
+}
@@ -19,10 +19,17 @@ import lombok.*;
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "username", "age"}) // 소유한 필드만,, 연관관계 필드를 할 경우 무한루프 발생 가능성 있음,,
+// search 조건 조합별 인덱스 (SearchPlanTestSupport에서 full scan 여부 확인)
+@Table(indexes = {
+        @Index(name = "idx_member_username_age", columnList = "username, age"), // username = ? [and age 범위]
+        @Index(name = "idx_member_team_age", columnList = "team_id, age"),      // team.name = ? 으로 찾은 팀의 member [and age 범위]
+        @Index(name = "idx_member_age", columnList = "age")                     // age 범위만
+})
 public class Member {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "member_seq", allocationSize = 100) // 시퀀스 한 번에 100개 id 확보 (pooled)
     @Column(name="member_id")
     private Long id;
     private String username;
@@ -48,7 +55,11 @@ public class Member {
         }
     }
 
+    // 이전 팀 members에서도 빼야 같은 영속성 컨텍스트에서 두 팀에 동시에 보이지 않는다.
     public void changeTeam(Team team){
+        if (this.team != null) {
+            this.team.getMembers().remove(this);
+        }
         this.team = team;
         team.getMembers().add(this);
     }
@@ -2,6 +2,8 @@ package com.study.querydsl.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,18 +20,26 @@ import java.util.List;
  * 12/18/23        kmy       최초 생성
  */
 @Entity
+@Cacheable // 거의 바뀌지 않는 기준 데이터 -> 2차 캐시
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Team.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "name"})
+@Table(indexes = @Index(name = "idx_team_name", columnList = "name")) // search의 team.name = ?
 public class Team {
 
+    public static final String CACHE_REGION = "team";
+    public static final String QUERY_CACHE_REGION = "team.query"; // TeamJpaRepository 조회 쿼리 결과 (id 목록)
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq_generator")
+    @SequenceGenerator(name = "team_seq_generator", sequenceName = "team_seq", allocationSize = 100)
     @Column(name = "team_id")
     private long id;
     private String name;
 
+    // 캐시하지 않는다. 컬렉션 캐시는 member id만 저장하므로 Member(자주 바뀌어 캐시하지 않음)를 건마다 다시 조회하게 된다.
     @OneToMany(mappedBy = "team") // 연관관계의 주인이 아님을 명시
     private List<Member> members = new ArrayList<>();
 
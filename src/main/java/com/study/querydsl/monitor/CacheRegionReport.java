@@ -0,0 +1,24 @@
+package com.study.querydsl.monitor;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : CacheRegionReport
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 2차 캐시 리전 통계, hit 한 번 = DB select 한 번 절약
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record CacheRegionReport(String region, long hits, long misses, long puts) {
+
+    public long savedQueries() {
+        return hits;
+    }
+
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
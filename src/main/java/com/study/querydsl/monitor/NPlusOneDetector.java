@@ -0,0 +1,100 @@
+package com.study.querydsl.monitor;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : NPlusOneDetector
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : p6spy 리스너, 같은 select가 한 스코프(HTTP 요청 또는 트랜잭션)에서 반복되면 N+1 의심으로 로그/예외
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Slf4j
+@Component
+public class NPlusOneDetector extends SimpleJdbcEventListener {
+
+    public enum Mode {
+        OFF, LOG, FAIL
+    }
+
+    private final ThreadLocal<QueryCountScope> current = new ThreadLocal<>();
+    private final Mode mode;
+    private final int threshold;
+
+    public NPlusOneDetector(@Value("${app.n-plus-one.mode:log}") Mode mode,
+                            @Value("${app.n-plus-one.threshold:10}") int threshold) {
+        this.mode = mode;
+        this.threshold = threshold;
+    }
+
+    /**
+     * 스코프 시작, try-with-resources로 닫는다. 중첩되면 닫을 때 바깥 스코프로 돌아간다.
+     * 스코프 없이 트랜잭션 안에서 쿼리가 실행되면 트랜잭션 단위 스코프가 자동으로 열린다.
+     */
+    public QueryCountScope open(String name) {
+        QueryCountScope parent = current.get();
+        QueryCountScope scope = new QueryCountScope(name, () -> {
+            if (parent == null) {
+                current.remove();
+            } else {
+                current.set(parent);
+            }
+        });
+        current.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        if (mode == Mode.OFF || e != null) {
+            return;
+        }
+        String sql = statementInformation.getSql();
+        if (!SqlFingerprint.isTableQuery(sql)) {
+            return;
+        }
+        QueryCountScope scope = currentScope();
+        if (scope == null) {
+            return;
+        }
+
+        String fingerprint = SqlFingerprint.of(sql);
+        int count = scope.record(fingerprint);
+        if (count == threshold + 1) { // fingerprint당 한 번만 보고
+            scope.addViolation(fingerprint);
+            String message = String.format("N+1 suspected in [%s]: same statement executed more than %d times: %s",
+                    scope.getName(), threshold, fingerprint);
+            if (mode == Mode.FAIL) {
+                throw new NPlusOneQueryException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    private QueryCountScope currentScope() {
+        QueryCountScope scope = current.get();
+        if (scope != null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return scope;
+        }
+        QueryCountScope transactionScope = open("transaction " + TransactionSynchronizationManager.getCurrentTransactionName());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                transactionScope.close();
+            }
+        });
+        return transactionScope;
+    }
+}
@@ -0,0 +1,19 @@
+package com.study.querydsl.monitor;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : NPlusOneQueryException
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : app.n-plus-one.mode=fail 일 때 같은 쿼리 반복이 임계치를 넘으면 발생
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public class NPlusOneQueryException extends RuntimeException {
+
+    public NPlusOneQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,71 @@
+package com.study.querydsl.monitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : QueryCountScope
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 트랜잭션/HTTP 요청 단위로 실행된 쿼리 fingerprint별 횟수, 한 스레드에서만 사용
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public class QueryCountScope implements AutoCloseable {
+
+    private final String name;
+    private final Runnable onClose;
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final List<String> violations = new ArrayList<>();
+    private int total;
+    private boolean closed;
+
+    QueryCountScope(String name, Runnable onClose) {
+        this.name = name;
+        this.onClose = onClose;
+    }
+
+    int record(String fingerprint) {
+        total++;
+        return counts.merge(fingerprint, 1, Integer::sum);
+    }
+
+    void addViolation(String fingerprint) {
+        violations.add(fingerprint);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int totalQueries() {
+        return total;
+    }
+
+    public int count(String fingerprint) {
+        return counts.getOrDefault(fingerprint, 0);
+    }
+
+    // 같은 fingerprint가 가장 많이 실행된 횟수
+    public int maxRepeated() {
+        return counts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    public List<String> violations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            onClose.run();
+        }
+    }
+}
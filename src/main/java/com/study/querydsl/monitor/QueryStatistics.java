@@ -0,0 +1,146 @@
+package com.study.querydsl.monitor;
+
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.common.ResultSetInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : QueryStatistics
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : p6spy 리스너, fingerprint별 호출 수/행 수/지연시간 히스토그램 누적 (앱 내 pg_stat_statements)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+@ConditionalOnProperty(name = "app.query-stats.enabled", havingValue = "true")
+public class QueryStatistics extends SimpleJdbcEventListener {
+
+    // 원본 SQL -> fingerprint, 정규식 비용을 행마다 치르지 않도록
+    private static final int MAX_CACHED_SQL = 10_000;
+
+    public enum Sort {
+        TOTAL(Comparator.comparingDouble(QueryStatsSnapshot::totalMillis)),
+        CALLS(Comparator.comparingLong(QueryStatsSnapshot::calls)),
+        ROWS(Comparator.comparingLong(QueryStatsSnapshot::rows)),
+        MEAN(Comparator.comparingDouble(QueryStatsSnapshot::meanMillis)),
+        P99(Comparator.comparingDouble(QueryStatsSnapshot::p99Millis)),
+        MAX(Comparator.comparingDouble(QueryStatsSnapshot::maxMillis));
+
+        private final Comparator<QueryStatsSnapshot> comparator;
+
+        Sort(Comparator<QueryStatsSnapshot> comparator) {
+            this.comparator = comparator;
+        }
+
+        public static Sort from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Map<String, Stats> statsByFingerprint = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprintBySql = new ConcurrentHashMap<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        stats(statementInformation.getSql()).record(timeElapsedNanos);
+    }
+
+    @Override
+    public void onAfterExecuteUpdate(PreparedStatementInformation statementInformation, long timeElapsedNanos,
+                                     int rowCount, SQLException e) {
+        stats(statementInformation.getSql()).rows.add(Math.max(rowCount, 0));
+        super.onAfterExecuteUpdate(statementInformation, timeElapsedNanos, rowCount, e);
+    }
+
+    @Override
+    public void onAfterExecuteBatch(StatementInformation statementInformation, long timeElapsedNanos,
+                                    int[] updateCounts, SQLException e) {
+        if (updateCounts != null) {
+            long rows = 0;
+            for (int count : updateCounts) {
+                rows += Math.max(count, 0); // SUCCESS_NO_INFO(-2)는 제외
+            }
+            stats(statementInformation.getSql()).rows.add(rows);
+        }
+        super.onAfterExecuteBatch(statementInformation, timeElapsedNanos, updateCounts, e);
+    }
+
+    // 행마다 집계하면 대량 조회(export, stream)에서 쿼리보다 비싸질 수 있으므로 ResultSet을 닫을 때 한 번만.
+    // 행 수는 p6spy가 next()마다 세는 currRow (-1부터 시작)
+    @Override
+    public void onAfterResultSetClose(ResultSetInformation resultSetInformation, SQLException e) {
+        int rows = resultSetInformation.getCurrRow() + 1;
+        if (rows > 0) {
+            stats(resultSetInformation.getSql()).rows.add(rows);
+        }
+    }
+
+    /**
+     * sort 기준 내림차순 상위 limit 건
+     */
+    public List<QueryStatsSnapshot> top(Sort sort, int limit) {
+        return statsByFingerprint.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(sort.comparator.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        statsByFingerprint.clear();
+        fingerprintBySql.clear();
+    }
+
+    private Stats stats(String sql) {
+        String fingerprint = fingerprintBySql.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.of(sql);
+            if (fingerprintBySql.size() >= MAX_CACHED_SQL) {
+                fingerprintBySql.clear();
+            }
+            fingerprintBySql.put(sql, fingerprint);
+        }
+        return statsByFingerprint.computeIfAbsent(fingerprint, key -> new Stats());
+    }
+
+    private static final class Stats {
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        void record(long nanos) {
+            totalNanos.add(nanos);
+            histogram.record(nanos / 1_000);
+        }
+
+        QueryStatsSnapshot snapshot(String fingerprint) {
+            long calls = histogram.count();
+            double totalMillis = totalNanos.sum() / 1_000_000.0;
+            return new QueryStatsSnapshot(
+                    fingerprint,
+                    calls,
+                    rows.sum(),
+                    totalMillis,
+                    calls == 0 ? 0 : totalMillis / calls,
+                    histogram.percentile(0.5) / 1_000.0,
+                    histogram.percentile(0.99) / 1_000.0,
+                    histogram.max() / 1_000.0
+            );
+        }
+    }
+}
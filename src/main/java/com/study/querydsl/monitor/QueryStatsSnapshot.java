@@ -0,0 +1,18 @@
+package com.study.querydsl.monitor;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : QueryStatsSnapshot
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : fingerprint 하나의 누적 통계 (pg_stat_statements 한 행에 해당), 시간 단위 ms
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record QueryStatsSnapshot(
+        String fingerprint, long calls, long rows,
+        double totalMillis, double meanMillis, double p50Millis, double p99Millis, double maxMillis
+) {
+}
@@ -0,0 +1,46 @@
+package com.study.querydsl.monitor;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : SqlFingerprint
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : SQL 정규화, 리터럴/IN 목록/공백 차이를 없애서 같은 모양의 쿼리를 하나로 묶는다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    // select m1_0.member_id ... where m1_0.age in (1, 2, 3) -> select m1_0.member_id ... where m1_0.age in (?+)
+    public static String of(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?+)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return normalized.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 테이블을 읽는 select 인지, 시퀀스 조회(select nextval(..)) 등은 제외
+     */
+    public static boolean isTableQuery(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String lower = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return (lower.startsWith("select") || lower.startsWith("with")) && lower.contains(" from ");
+    }
+}
@@ -0,0 +1,54 @@
+package com.study.querydsl.monitor;
+
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : TeamCacheStatistics
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Team 2차 캐시(엔티티, 조회 쿼리) 통계, app.jpa.statistics=true 일 때만 집계
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamCacheStatistics {
+
+    private final EntityManagerFactory emf;
+
+    public List<CacheRegionReport> report() {
+        return List.of(region(Team.CACHE_REGION), queryRegion(Team.QUERY_CACHE_REGION));
+    }
+
+    // 쿼리 캐시 hit 한 번 = 조회 쿼리 한 번 절약 (결과 Team은 엔티티 리전에서)
+    public CacheRegionReport queryRegion(String region) {
+        CacheRegionStatistics stats = statistics().getQueryRegionStatistics(region);
+        if (stats == null) {
+            return new CacheRegionReport(region, 0, 0, 0);
+        }
+        return new CacheRegionReport(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount());
+    }
+
+    public CacheRegionReport region(String region) {
+        CacheRegionStatistics stats = statistics().getDomainDataRegionStatistics(region);
+        if (stats == null) {
+            return new CacheRegionReport(region, 0, 0, 0);
+        }
+        return new CacheRegionReport(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount());
+    }
+
+    private Statistics statistics() {
+        return emf.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.querydsl.monitor;
+
+/**
+ * packageName    : com.study.querydsl.monitor
+ * fileName       : UsernameIndexStats
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : username 자동완성 인덱스 크기/메모리 추정치와 빌드 통계
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record UsernameIndexStats(boolean ready,
+                                 int baseEntries,      // 정렬 배열에 들어 있는 (username, memberId)
+                                 int deltaEntries,     // 마지막 병합 이후 추가/변경된 것
+                                 int removedIds,       // 정렬 배열에서 건너뛸 memberId (변경/삭제)
+                                 long estimatedBytes,  // 배열 크기 + delta 객체 오버헤드 추정
+                                 long builds,          // DB 전체 스캔 횟수
+                                 long compactions,     // delta 병합 횟수
+                                 long lastBuildMillis,
+                                 long lookups) {
+
+    public double bytesPerEntry() {
+        int entries = baseEntries + deltaEntries;
+        return entries == 0 ? 0 : (double) estimatedBytes / entries;
+    }
+}
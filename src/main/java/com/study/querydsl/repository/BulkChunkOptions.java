@@ -0,0 +1,51 @@
+package com.study.querydsl.repository;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : BulkChunkOptions
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : ChunkedBulkExecutor 설정, chunk 크기 / chunk 사이 대기 시간 / 진행 상황 콜백
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record BulkChunkOptions(int chunkSize, Duration pause, Consumer<BulkProgress> listener) {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    public BulkChunkOptions {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        if (pause == null || pause.isNegative()) {
+            throw new IllegalArgumentException("pause must not be negative: " + pause);
+        }
+        if (listener == null) {
+            listener = progress -> {
+            };
+        }
+    }
+
+    public static BulkChunkOptions defaults() {
+        return new BulkChunkOptions(DEFAULT_CHUNK_SIZE, Duration.ZERO, null);
+    }
+
+    public BulkChunkOptions withChunkSize(int chunkSize) {
+        return new BulkChunkOptions(chunkSize, pause, listener);
+    }
+
+    // chunk 커밋 후 다음 chunk 전까지 쉬는 시간 (WAL/복제 지연, 동시 트래픽 여유)
+    public BulkChunkOptions withPause(Duration pause) {
+        return new BulkChunkOptions(chunkSize, pause, listener);
+    }
+
+    // chunk가 커밋될 때마다 호출
+    public BulkChunkOptions withListener(Consumer<BulkProgress> listener) {
+        return new BulkChunkOptions(chunkSize, pause, listener);
+    }
+}
@@ -0,0 +1,34 @@
+package com.study.querydsl.repository;
+
+import java.time.Duration;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : BulkProgress
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : chunk 단위 벌크 연산 진행 상황, 커밋된 chunk 기준
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public record BulkProgress(int chunks, long affected, Long lastId, Duration elapsed, boolean finished) {
+
+    static BulkProgress start() {
+        return new BulkProgress(0, 0, null, Duration.ZERO, false);
+    }
+
+    BulkProgress next(long chunkAffected, Long lastId, Duration elapsed) {
+        return new BulkProgress(chunks + 1, affected + chunkAffected, lastId, elapsed, false);
+    }
+
+    BulkProgress finish(Duration elapsed) {
+        return new BulkProgress(chunks, affected, lastId, elapsed, true);
+    }
+
+    // 중단(interrupt)된 경우 lastId 이후부터 다시 실행하면 된다.
+    BulkProgress stop(Duration elapsed) {
+        return new BulkProgress(chunks, affected, lastId, elapsed, false);
+    }
+}
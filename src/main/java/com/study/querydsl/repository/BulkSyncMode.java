@@ -0,0 +1,20 @@
+package com.study.querydsl.repository;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : BulkSyncMode
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 벌크 update 후 영향받은 managed 엔티티 처리 방법
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public enum BulkSyncMode {
+    // 영속성 컨텍스트에서 빼고 id IN 묶음 조회로 새 인스턴스를 다시 올린다. (em.refresh와 달리 같은 인스턴스가 아니다)
+    // 호출 전에 들고 있던 참조는 준영속의 이전 값이 되므로 더 쓰지 말고 em.find 등으로 다시 얻는다.
+    RELOAD,
+    // 영속성 컨텍스트에서 뺀다. 다음 조회 때 새로 로딩
+    EVICT
+}
@@ -0,0 +1,127 @@
+package com.study.querydsl.repository;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.LockModeType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : ChunkedBulkExecutor
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 대상 id를 keyset으로 chunk씩 조회해서 chunk마다 짧은 트랜잭션으로 update/delete
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class ChunkedBulkExecutor {
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate chunkTx;
+
+    public ChunkedBulkExecutor(JPAQueryFactory queryFactory, PlatformTransactionManager transactionManager) {
+        this.queryFactory = queryFactory;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        // 호출한 쪽 트랜잭션과 관계없이 chunk마다 커밋해서 락/WAL을 chunk 크기로 제한
+        this.chunkTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * ex) delete(member, member.id, member.age.gt(18), BulkChunkOptions.defaults())
+     */
+    public BulkProgress delete(EntityPath<?> root, NumberPath<Long> id, Predicate predicate,
+                               BulkChunkOptions options) {
+        return execute(root, id, predicate, options,
+                ids -> queryFactory.delete(root).where(id.in(ids)).execute());
+    }
+
+    /**
+     * assignments가 predicate 컬럼을 바꿔도 id 순으로 한 번씩만 처리된다.
+     * ex) update(member, member.id, member.age.gt(18), u -> u.set(member.age, member.age.add(1)), options)
+     */
+    public BulkProgress update(EntityPath<?> root, NumberPath<Long> id, Predicate predicate,
+                               Consumer<JPAUpdateClause> assignments, BulkChunkOptions options) {
+        return execute(root, id, predicate, options, ids -> {
+            JPAUpdateClause update = queryFactory.update(root).where(id.in(ids));
+            assignments.accept(update);
+            return update.execute();
+        });
+    }
+
+    /**
+     * chunk 하나 = 트랜잭션 하나 : id > lastId 조건으로 chunkSize개 id 조회 -> id IN (...) 로 update/delete -> 커밋.
+     * 전체가 하나의 트랜잭션이 아니므로 중간에 실패하면 앞 chunk들은 이미 커밋된 상태다. (BulkProgress.lastId부터 재실행)
+     * id 조회는 select ... for update로 chunk 행을 잠그고 같은 트랜잭션에서 update/delete 한다.
+     * 다른 트랜잭션이 바꾸는 중인 행은 그 커밋을 기다린 뒤 predicate를 다시 평가하므로 더 이상 맞지 않는 행은 빠진다.
+     * (DML에서 암시적 join을 피하기 위해 predicate를 DML에 다시 걸지 않고 락으로 보장)
+     * 호출한 쪽 영속성 컨텍스트에는 반영되지 않는다.
+     */
+    private BulkProgress execute(EntityPath<?> root, NumberPath<Long> id, Predicate predicate,
+                                 BulkChunkOptions options, ToLongFunction<List<Long>> mutation) {
+        long start = System.nanoTime();
+        BulkProgress progress = BulkProgress.start();
+        while (true) {
+            Long after = progress.lastId();
+            Chunk chunk = chunkTx.execute(status -> {
+                List<Long> ids = queryFactory
+                        .select(id)
+                        .from(root)
+                        .where(predicate, after != null ? id.gt(after) : null)
+                        .orderBy(id.asc())
+                        .limit(options.chunkSize())
+                        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                        .fetch();
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                return new Chunk(ids.get(ids.size() - 1), ids.size(), mutation.applyAsLong(ids));
+            });
+            if (chunk == null) {
+                break;
+            }
+            progress = progress.next(chunk.affected(), chunk.lastId(), elapsedSince(start));
+            options.listener().accept(progress);
+            if (chunk.selected() < options.chunkSize()) {
+                break;
+            }
+            if (!pause(options.pause())) {
+                return progress.stop(elapsedSince(start));
+            }
+        }
+        return progress.finish(elapsedSince(start));
+    }
+
+    private static boolean pause(Duration pause) {
+        if (pause.isZero()) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Duration elapsedSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    private record Chunk(Long lastId, int selected, long affected) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.querydsl.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : DbAdmissionLimiter
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : DB 작업 동시 실행 수를 커넥션 풀 크기로 제한 (virtual thread 수천 개가 풀에 몰리는 것 방지)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class DbAdmissionLimiter {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long timeoutNanos;
+
+    /**
+     * Hikari 대기(connectionTimeout)는 풀 내부 큐에서 스레드마다 대기하므로,
+     * 그 앞에서 permit 수를 풀 크기로 맞춰 두면 풀에는 항상 빈 커넥션이 있다.
+     * replica가 있어도 기본값은 풀 하나 크기(primary 기준)다. 쓰기, replica 장애 시 읽기, 캐시 적재(TeamStatsCache 등)는 primary로 가므로
+     * 어느 트랜잭션이든 primary 풀에 들어갈 수 있기 때문. 대신 replica 풀은 이 한도만큼만 쓰인다.
+     * 읽기가 대부분이라 replica 풀까지 채우고 싶으면 app.db.admission.max-concurrency로 올린다. (primary 풀 대기는 Hikari가 처리)
+     */
+    public DbAdmissionLimiter(@Value("${app.db.admission.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+                              @Value("${app.db.admission.timeout:5s}") Duration timeout) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * permit을 얻은 뒤 work 실행, timeout 안에 못 얻으면 DbAdmissionTimeoutException.
+     * work 안에서 커넥션을 반납해야 하므로 트랜잭션은 work 안에서 시작/종료할 것.
+     */
+    public <T> T call(Supplier<T> work) {
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new DbAdmissionTimeoutException(maxConcurrency, permits.getQueueLength());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DbAdmissionTimeoutException(maxConcurrency, permits.getQueueLength());
+        }
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int inUse() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    // 대기 중인 스레드 수 (추정치)
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,19 @@
+package com.study.querydsl.repository;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : DbAdmissionTimeoutException
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : DbAdmissionLimiter에서 제한 시간 안에 permit을 얻지 못함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public class DbAdmissionTimeoutException extends RuntimeException {
+
+    public DbAdmissionTimeoutException(int maxConcurrency, int waiting) {
+        super("DB 동시 실행 한도 초과 (max=" + maxConcurrency + ", waiting=" + waiting + ")");
+    }
+}
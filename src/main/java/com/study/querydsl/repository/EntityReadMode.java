@@ -0,0 +1,19 @@
+package com.study.querydsl.repository;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : EntityReadMode
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 엔티티 조회 결과를 영속성 컨텍스트에서 어떻게 관리할지
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public enum EntityReadMode {
+    // 일반 managed 엔티티, 로딩 시점 스냅샷을 보관하고 flush 때 변경 감지
+    MANAGED,
+    // 읽기 전용(HINT_READ_ONLY), 스냅샷을 보관하지 않고 flush 때도 건너뛴다. 값을 바꿔도 DB에 반영되지 않음
+    READ_ONLY
+}
@@ -0,0 +1,61 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import com.study.querydsl.repository.support.PostCommitEntityListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : MemberChangeEventListener
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Member/Team 변경이 커밋된 후 search 캐시 무효화 (save, changeTeam 등 dirty checking 포함)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class MemberChangeEventListener extends PostCommitEntityListener {
+
+    private final MemberSearchCache memberSearchCache;
+
+    public MemberChangeEventListener(EntityManagerFactory emf, MemberSearchCache memberSearchCache) {
+        super(emf);
+        this.memberSearchCache = memberSearchCache;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            memberSearchCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            memberSearchCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            memberSearchCache.invalidateAll();
+        }
+    }
+
+    // search 결과에 나오는 엔티티만
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return Member.class.equals(type) || Team.class.equals(type);
+    }
+}
@@ -1,21 +1,54 @@
 package com.study.querydsl.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Param;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import com.study.querydsl.dto.MemberIdRange;
+import com.study.querydsl.dto.MemberKeysetPage;
 import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberSearchCursor;
 import com.study.querydsl.dto.MemberTeamDto;
 import com.study.querydsl.dto.QMemberTeamDto;
 import com.study.querydsl.entity.Member;
 import com.study.querydsl.entity.QMember;
+import com.study.querydsl.entity.Team;
+import com.study.querydsl.repository.support.InListPadding;
+import com.study.querydsl.repository.support.ManagedEntities;
+import com.study.querydsl.repository.support.PreparedJpaQuery;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.Cache;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.study.querydsl.entity.QMember.*;
 import static com.study.querydsl.entity.QTeam.team;
@@ -23,8 +56,22 @@ import static com.study.querydsl.entity.QTeam.team;
 @Repository
 @RequiredArgsConstructor
 public class MemberJpaRepository {
+    public static final int DEFAULT_FETCH_SIZE = 500;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int BULK_SYNC_IN_SIZE = 1000;
+    private static final Param<String> USERNAME_PARAM = new Param<>(String.class, "username");
+
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
+    private final MemberSearchQueryCache memberSearchQueryCache;
+    private final MemberSearchCache memberSearchCache;
+    private final ChunkedBulkExecutor chunkedBulkExecutor;
+    private final TeamStatsCache teamStatsCache;
+    private final ReferenceDataSnapshot referenceDataSnapshot;
+    private final UsernamePrefixIndex usernamePrefixIndex;
+
+    private PreparedJpaQuery<Member> findByUsernameQuery;
+    private PreparedJpaQuery<Member> findByUsernameReadOnlyQuery;
 
 //    public MemberJpaRepository(EntityManager em, JPAQueryFactory queryFactory) {
 //        this.em = em;
@@ -32,38 +79,150 @@ public class MemberJpaRepository {
 //        this.queryFactory = queryFactory; // SpringBean으로 등록가능.
 //    }
 
+    @PostConstruct
+    void prepareQueries() {
+        findByUsernameQuery = PreparedJpaQuery.of(em, queryFactory
+                .selectFrom(member)
+                .where(member.username.eq(USERNAME_PARAM)));
+        findByUsernameReadOnlyQuery = findByUsernameQuery.withHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
     public void save(Member member){
         em.persist(member);
     }
 
+    public void saveAll(Iterable<Member> members){
+        saveAll(members, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 대량 insert, chunkSize 건마다 flush/clear.
+     * chunkSize를 hibernate.jdbc.batch_size와 맞추면 chunk 하나가 JDBC batch 한 번으로 나간다.
+     * clear 하므로 호출 전에 영속 상태였던 엔티티도 모두 준영속이 된다.
+     */
+    public void saveAll(Iterable<Member> members, int chunkSize){
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        int count = 0;
+        for (Member m : members) {
+            em.persist(m);
+            if (++count % chunkSize == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Member> findById(Long id){
         Member findMember = em.find(Member.class, id);
         return Optional.ofNullable(findMember);
     }
 
+    /**
+     * 여러 id를 한 번에, 결과는 ids 순서 (중복 id는 처음 한 번만, 없는 id는 빠진다).
+     * 1. 영속성 컨텍스트에 있는 것은 그대로 (삭제 예정이면 없는 것으로)
+     * 2. 2차 캐시에 있는 것은 em.find (select 없음, 캐시 대상 엔티티일 때만)
+     * 3. 나머지는 id IN (...)을 DEFAULT_BATCH_SIZE씩, 2의 거듭제곱 길이로 채워 조회 (InListPadding)
+     * ex) 500건 중 영속성 컨텍스트에 없는 것이 500건이면 select 5번
+     */
+    @Transactional(readOnly = true)
+    public List<Member> findAllById(Collection<Long> ids){
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.contains(null)) {
+            throw new IllegalArgumentException("ids must not contain null");
+        }
+        Map<Object, Member> found = new HashMap<>(ManagedEntities.byId(em, Member.class, distinct));
+        Cache cache = em.getEntityManagerFactory().getCache();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinct) {
+            if (found.containsKey(id)) {
+                continue;
+            }
+            if (cache.contains(Member.class, id)) {
+                found.put(id, em.find(Member.class, id));
+            } else {
+                missing.add(id);
+            }
+        }
+        for (List<Long> batch : InListPadding.partition(missing, DEFAULT_BATCH_SIZE)) {
+            for (Member m : queryFactory
+                    .selectFrom(member)
+                    .where(member.id.in(batch))
+                    .fetch()) {
+                found.put(m.getId(), m);
+            }
+        }
+
+        List<Member> result = new ArrayList<>(distinct.size());
+        for (Long id : distinct) {
+            Member m = found.get(id);
+            if (m != null) {
+                result.add(m);
+            }
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
     public List<Member> findAll(){
-        return em.createQuery("select m from Member m", Member.class)
-                .getResultList();
+        return findAll(EntityReadMode.MANAGED);
     }
 
+    /**
+     * readOnly 트랜잭션을 새로 시작하면 세션 기본값이 읽기 전용이라 MANAGED여도 스냅샷을 만들지 않는다.
+     * 이미 열린 쓰기 트랜잭션에 참여할 때 READ_ONLY로 조회하면 해당 결과만 읽기 전용이 된다.
+     */
+    @Transactional(readOnly = true)
+    public List<Member> findAll(EntityReadMode mode){
+        TypedQuery<Member> query = em.createQuery("select m from Member m", Member.class);
+        if (mode == EntityReadMode.READ_ONLY) {
+            query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        }
+        return query.getResultList();
+    }
+
+    @Transactional(readOnly = true)
     public List<Member> findAll_querydsl(){
-        return queryFactory.selectFrom(member).fetch();
+        return findAll_querydsl(EntityReadMode.MANAGED);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Member> findAll_querydsl(EntityReadMode mode){
+        JPAQuery<Member> query = queryFactory.selectFrom(member);
+        if (mode == EntityReadMode.READ_ONLY) {
+            query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        }
+        return query.fetch();
     }
 
+    @Transactional(readOnly = true)
     public List<Member> findByUsername(String username){
         return em.createQuery("select m from Member m where m.username = :username", Member.class)
                 .setParameter("username", username)
                 .getResultList();
     }
 
+    @Transactional(readOnly = true)
     public List<Member> findByUsername_querydsl(String username){
-        return queryFactory
-                .selectFrom(member)
-                .where(member.username.eq(username))
-                .fetch();
+        return findByUsername_querydsl(username, EntityReadMode.MANAGED);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Member> findByUsername_querydsl(String username, EntityReadMode mode){
+        PreparedJpaQuery<Member> query = mode == EntityReadMode.READ_ONLY ? findByUsernameReadOnlyQuery : findByUsernameQuery;
+        return query.fetch(USERNAME_PARAM, username);
     }
 
+    @Transactional(readOnly = true)
     public List<MemberTeamDto> searchByBuilder(MemberSearchCondition condition){
+        return memberSearchCache.get(condition, this::searchByBuilderQuery);
+    }
+
+    private List<MemberTeamDto> searchByBuilderQuery(MemberSearchCondition condition){
 
         BooleanBuilder builder = new BooleanBuilder();
         if (StringUtils.hasText(condition.getUsername())) {
@@ -80,13 +239,7 @@ public class MemberJpaRepository {
         }
 
         return queryFactory
-                .select(new QMemberTeamDto(
-                        member.id.as("memberId"),
-                        member.username,
-                        member.age,
-                        team.id.as("teamId"),
-                        team.name.as("teamName")
-                ))
+                .select(memberTeamDto())
                 .from(member)
                 .where(builder)
                 .leftJoin(member.team, team)
@@ -94,25 +247,340 @@ public class MemberJpaRepository {
 
     }
 
+    // 결과 캐시(MemberSearchCache) -> 조건 조합별로 준비된 쿼리(MemberSearchQueryCache) 순
+    @Transactional(readOnly = true)
     public List<MemberTeamDto> search(MemberSearchCondition condition){
-        return queryFactory
-                .select(new QMemberTeamDto(
-                        member.id.as("memberId"),
-                        member.username,
-                        member.age,
-                        team.id.as("teamId"),
-                        team.name.as("teamName")
-                ))
-                .from(member)
-                .where(
-                        usernameEq(condition.getUsername()),
-                        teamNameEq(condition.getTeamname()),
-                        ageGeo(condition.getAgeGoe()),
-                        ageLeo(condition.getAgeLoe())
-                )
-                .leftJoin(member.team, team)
+        return memberSearchCache.get(condition, memberSearchQueryCache::search);
+    }
+
+    /**
+     * 벌크 update, 영속성 컨텍스트를 거치지 않으므로 search 캐시도 직접 무효화한다.
+     * em.flush(); em.clear() 대신 영향받은 managed Member만 새 인스턴스로 다시 읽는다. (나머지 1차 캐시는 유지)
+     * 호출 전에 들고 있던 영향받은 Member 참조는 무효(준영속, 이전 값)가 되므로 em.find 등으로 다시 얻는다. (BulkSyncMode.RELOAD)
+     * ex) bulkUpdate(member.age.lt(28), update -> update.set(member.username, "비회원"))
+     */
+    public long bulkUpdate(Predicate predicate, Consumer<JPAUpdateClause> assignments){
+        return bulkUpdate(predicate, assignments, BulkSyncMode.RELOAD);
+    }
+
+    public long bulkUpdate(Predicate predicate, Consumer<JPAUpdateClause> assignments, BulkSyncMode syncMode){
+        // update로 조건 컬럼이 바뀔 수 있으므로 실행 전에 대상을 찾아 둔다.
+        List<Member> affected = managedMatching(predicate);
+
+        JPAUpdateClause update = queryFactory
+                .update(member)
+                .where(predicate);
+        assignments.accept(update);
+        long count = update.execute();
+
+        if (syncMode == BulkSyncMode.RELOAD) {
+            reload(affected);
+        } else {
+            affected.forEach(em::detach);
+        }
+        afterBulk();
+        return count;
+    }
+
+    /**
+     * em.refresh는 엔티티마다 select 한 번이므로, detach 후 findAllById로 id IN 묶음 조회해 새 인스턴스로 다시 올린다.
+     * 로딩된 team.members에 있던 이전 인스턴스는 같은 자리의 새 인스턴스로 바꾼다.
+     */
+    private void reload(List<Member> affected) {
+        if (affected.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(affected.size());
+        for (Member m : affected) {
+            ids.add(m.getId());
+            em.detach(m);
+        }
+        Map<Long, Member> reloaded = new HashMap<>(affected.size() * 2);
+        for (Member m : findAllById(ids)) {
+            reloaded.put(m.getId(), m);
+        }
+        for (Member old : affected) {
+            Team team = old.getTeam();
+            Member fresh = reloaded.get(old.getId());
+            if (fresh == null || team == null || !Hibernate.isInitialized(team) || !Hibernate.isInitialized(team.getMembers())) {
+                continue;
+            }
+            int index = team.getMembers().indexOf(old);
+            if (index >= 0) {
+                team.getMembers().set(index, fresh);
+            }
+        }
+    }
+
+    /**
+     * 벌크 delete, 삭제된 managed Member는 영속성 컨텍스트와 (로딩된) team.members에서 뺀다.
+     */
+    public long bulkDelete(Predicate predicate){
+        List<Member> affected = managedMatching(predicate);
+
+        long count = queryFactory
+                .delete(member)
+                .where(predicate)
+                .execute();
+
+        for (Member m : affected) {
+            Team team = m.getTeam();
+            if (team != null && Hibernate.isInitialized(team) && Hibernate.isInitialized(team.getMembers())) {
+                team.getMembers().remove(m);
+            }
+            em.detach(m);
+        }
+        afterBulk();
+        return count;
+    }
+
+    /**
+     * 대량 update를 chunk 단위 짧은 트랜잭션으로 (ChunkedBulkExecutor), chunk가 커밋될 때마다 search 캐시/팀 집계 무효화.
+     * 호출한 쪽 영속성 컨텍스트와는 동기화하지 않으므로 트랜잭션 밖에서 쓰는 것을 권장.
+     * ex) bulkUpdateChunked(member.age.gt(18), u -> u.set(member.age, member.age.add(1)),
+     *         BulkChunkOptions.defaults().withPause(Duration.ofMillis(50)))
+     */
+    public BulkProgress bulkUpdateChunked(Predicate predicate, Consumer<JPAUpdateClause> assignments,
+                                          BulkChunkOptions options){
+        return chunkedBulkExecutor.update(member, member.id, predicate, assignments, invalidatingPerChunk(options));
+    }
+
+    public BulkProgress bulkDeleteChunked(Predicate predicate, BulkChunkOptions options){
+        return chunkedBulkExecutor.delete(member, member.id, predicate, invalidatingPerChunk(options));
+    }
+
+    /**
+     * keyset(seek) 페이징, (age, memberId) 순으로 정렬하고 cursor 이후의 size건을 조회한다.
+     * offset을 쓰지 않으므로 몇 번째 페이지든 첫 페이지와 비용이 같다.
+     * cursor가 null이면 첫 페이지.
+     */
+    @Transactional(readOnly = true)
+    public MemberKeysetPage searchKeyset(MemberSearchCondition condition, MemberSearchCursor cursor, int size){
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+
+        List<MemberTeamDto> fetch = searchQuery(condition)
+                .where(afterCursor(cursor))
+                .orderBy(member.age.asc(), member.id.asc())
+                .limit(size + 1) // 한 건 더 읽어서 다음 페이지 존재 여부 확인
                 .fetch();
 
+        if (fetch.size() <= size) {
+            return new MemberKeysetPage(fetch, null);
+        }
+        List<MemberTeamDto> content = new ArrayList<>(fetch.subList(0, size));
+        return new MemberKeysetPage(content, MemberSearchCursor.of(content.get(size - 1)));
+    }
+
+    /**
+     * offset 페이징 + 별도 count 쿼리.
+     * count 쿼리는 fetch join, order by, team 컬럼 없이 member 기준으로만 세고,
+     * 팀명 조건이 있을 때만 team을 join 한다.
+     * 첫 페이지가 pageSize보다 작거나 마지막 페이지면 count 쿼리 자체를 생략한다. (PageableExecutionUtils)
+     * 정렬은 memberId 고정.
+     */
+    @Transactional(readOnly = true)
+    public Page<MemberTeamDto> searchPage(MemberSearchCondition condition, Pageable pageable){
+        List<MemberTeamDto> content = searchQuery(condition)
+                .orderBy(member.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery(condition).fetchOne());
+    }
+
+    /**
+     * count 쿼리 없이 pageSize + 1건을 조회해서 다음 페이지 존재 여부만 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<MemberTeamDto> searchSlice(MemberSearchCondition condition, Pageable pageable){
+        int pageSize = pageable.getPageSize();
+        List<MemberTeamDto> fetch = searchQuery(condition)
+                .orderBy(member.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageSize + 1)
+                .fetch();
+
+        boolean hasNext = fetch.size() > pageSize;
+        List<MemberTeamDto> content = hasNext ? new ArrayList<>(fetch.subList(0, pageSize)) : fetch;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * forward-only 커서로 한 건씩 읽어오는 스트림, 전체 결과를 List로 올리지 않는다.
+     * DTO 조회라 영속성 컨텍스트에도 쌓이지 않는다.
+     * 커서가 열려 있어야 하므로 트랜잭션 안에서 호출하고, try-with-resources로 반드시 close 할 것.
+     */
+    public Stream<MemberTeamDto> searchStream(MemberSearchCondition condition, int fetchSize){
+        return searchQuery(condition)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+    }
+
+    @Transactional(readOnly = true)
+    public void searchEach(MemberSearchCondition condition, int fetchSize, Consumer<MemberTeamDto> action){
+        try (Stream<MemberTeamDto> stream = searchStream(condition, fetchSize)) {
+            stream.forEach(action);
+        }
+    }
+
+    /**
+     * search 조건 + member_id 구간 [fromId, toId)을 memberId 순으로 커서 순회 (병렬 export 파티션 하나).
+     * searchEach와 마찬가지로 트랜잭션 안에서 호출할 것.
+     */
+    @Transactional(readOnly = true)
+    public void searchEach(MemberSearchCondition condition, MemberIdRange range, int fetchSize,
+                           Consumer<MemberTeamDto> action){
+        try (Stream<MemberTeamDto> stream = searchQuery(condition)
+                .where(member.id.goe(range.fromId()), member.id.lt(range.toId()))
+                .orderBy(member.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .stream()) {
+            stream.forEach(action);
+        }
+    }
+
+    // 회원이 없으면 empty
+    @Transactional(readOnly = true)
+    public Optional<MemberIdRange> idRange(){
+        Tuple bounds = queryFactory
+                .select(member.id.min(), member.id.max())
+                .from(member)
+                .fetchOne();
+        if (bounds == null || bounds.get(member.id.min()) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(MemberIdRange.closed(bounds.get(member.id.min()), bounds.get(member.id.max())));
+    }
+
+    /**
+     * 엔티티 전체를 커서로 순회한다. 순회 중 새로 로딩된 엔티티는 action 처리가 끝나면 바로 detach 해서
+     * 영속성 컨텍스트(스냅샷 포함)가 행 수만큼 커지지 않게 한다.
+     * 호출 전부터 managed였던 엔티티는 호출한 쪽 것이므로 그대로 둔다. (detach하면 대기 중인 변경이 버려진다)
+     * action 밖으로 새로 로딩된 엔티티를 넘기면 준영속 상태이므로 지연 로딩 불가.
+     */
+    @Transactional(readOnly = true)
+    public void findAllEach(int fetchSize, Consumer<Member> action){
+        // 커서가 돌려주는 인스턴스는 이미 managed이므로 em.contains로는 구분할 수 없어 순회 전에 기록
+        Set<Member> managedBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+        managedBefore.addAll(ManagedEntities.of(em, Member.class));
+        try (Stream<Member> stream = queryFactory
+                .selectFrom(member)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream()) {
+            stream.forEach(m -> {
+                action.accept(m);
+                if (!managedBefore.contains(m)) {
+                    em.detach(m);
+                }
+            });
+        }
+    }
+
+    /**
+     * 영속성 컨텍스트의 Member 중 predicate에 해당하는 것, managed Member가 없으면 쿼리하지 않는다.
+     * id IN (...)은 BULK_SYNC_IN_SIZE 단위로 나눠 조회. (조회 전 auto flush로 대기 중인 변경은 DB에 반영됨)
+     */
+    private List<Member> managedMatching(Predicate predicate) {
+        List<Member> managed = ManagedEntities.of(em, Member.class);
+        if (managed.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Member> byId = new HashMap<>(managed.size() * 2);
+        for (Member m : managed) {
+            byId.put(m.getId(), m);
+        }
+        List<Long> ids = new ArrayList<>(byId.keySet());
+        List<Member> affected = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_SYNC_IN_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_SYNC_IN_SIZE, ids.size()));
+            for (Long id : queryFactory
+                    .select(member.id)
+                    .from(member)
+                    .where(predicate, member.id.in(chunk))
+                    .fetch()) {
+                affected.add(byId.get(id));
+            }
+        }
+        return affected;
+    }
+
+    private BulkChunkOptions invalidatingPerChunk(BulkChunkOptions options) {
+        return options.withListener(progress -> {
+            memberSearchCache.invalidateAll();
+            teamStatsCache.invalidate();
+            referenceDataSnapshot.invalidate();
+            usernamePrefixIndex.invalidate();
+            options.listener().accept(progress);
+        });
+    }
+
+    /**
+     * 2차 캐시 엔티티 리전은 Hibernate가 벌크 HQL 실행 시 이미 비운다.
+     * 쿼리 캐시 리전과 search 결과 캐시, 팀 집계, 참조 데이터 스냅샷, username 인덱스만 추가로 비운다. (다음 조회 때 다시 계산/적재)
+     */
+    private void afterBulk() {
+        em.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        memberSearchCache.invalidateAfterCompletion();
+        teamStatsCache.invalidateAfterCompletion();
+        referenceDataSnapshot.invalidateAfterCompletion();
+        usernamePrefixIndex.invalidateAfterCompletion();
+    }
+
+    private JPAQuery<MemberTeamDto> searchQuery(MemberSearchCondition condition) {
+        JPAQuery<MemberTeamDto> query = queryFactory
+                .select(memberTeamDto())
+                .from(member);
+        if (StringUtils.hasText(condition.getTeamname())) {
+            // countQuery와 같은 이유로 inner join, left join이면 H2 등은 member부터 전체를 읽는다.
+            query.join(member.team, team);
+        } else {
+            query.leftJoin(member.team, team);
+        }
+        return query.where(
+                usernameEq(condition.getUsername()),
+                teamNameEq(condition.getTeamname()),
+                ageGeo(condition.getAgeGoe()),
+                ageLeo(condition.getAgeLoe())
+        );
+    }
+
+    private JPAQuery<Long> countQuery(MemberSearchCondition condition) {
+        JPAQuery<Long> query = queryFactory
+                .select(member.count())
+                .from(member);
+        if (StringUtils.hasText(condition.getTeamname())) {
+            // team.name = ? 조건이 붙으면 left join과 결과가 같으므로 inner join
+            query.join(member.team, team);
+        }
+        return query.where(
+                usernameEq(condition.getUsername()),
+                teamNameEq(condition.getTeamname()),
+                ageGeo(condition.getAgeGoe()),
+                ageLeo(condition.getAgeLoe())
+        );
+    }
+
+    private QMemberTeamDto memberTeamDto() {
+        return new QMemberTeamDto(
+                member.id.as("memberId"),
+                member.username,
+                member.age,
+                team.id.as("teamId"),
+                team.name.as("teamName")
+        );
+    }
+
+    // age >= :age 로 인덱스 범위 시작점을 잡고, 같은 age 안에서는 memberId로 이어서 읽는다.
+    private BooleanExpression afterCursor(MemberSearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return member.age.goe(cursor.age())
+                .and(member.age.gt(cursor.age()).or(member.id.gt(cursor.memberId())));
     }
 
     private BooleanExpression usernameEq(String username) {
@@ -0,0 +1,199 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.dto.MemberIdRange;
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : MemberParallelExporter
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : member_id 구간을 N개로 나눠 구간마다 별도 커넥션/트랜잭션에서 search 조건으로 읽고 sink로 모은다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class MemberParallelExporter {
+
+    private static final int CHUNK_SIZE = MemberJpaRepository.DEFAULT_FETCH_SIZE;
+    // 파티션당 sink로 넘기기 전 대기할 수 있는 chunk 수, 이만큼 쌓이면 해당 파티션의 커서도 멈춘다.
+    private static final int QUEUE_CHUNKS = 4;
+
+    private final MemberJpaRepository memberJpaRepository;
+    private final DbAdmissionLimiter dbAdmissionLimiter;
+    private final TransactionTemplate readOnlyTx;
+    private final ExecutorService executor;
+    private final int defaultPartitions;
+
+    public MemberParallelExporter(MemberJpaRepository memberJpaRepository, DbAdmissionLimiter dbAdmissionLimiter,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.member.export.partitions:4}") int defaultPartitions) {
+        this.memberJpaRepository = memberJpaRepository;
+        this.dbAdmissionLimiter = dbAdmissionLimiter;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.defaultPartitions = defaultPartitions;
+        // 파티션마다 커넥션 하나, 풀 크기 이상은 어차피 limiter에서 대기
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(dbAdmissionLimiter.maxConcurrency(), r -> {
+            Thread thread = new Thread(r, "member-export-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public long export(MemberSearchCondition condition, Consumer<MemberTeamDto> sink) {
+        return export(condition, defaultPartitions, false, sink);
+    }
+
+    /**
+     * sink는 호출한 스레드에서만(순차적으로) 호출되므로 thread-safe 하지 않아도 된다.
+     * ordered=true : memberId 순서대로, 앞 파티션을 다 넘길 때까지 뒤 파티션은 QUEUE_CHUNKS만큼만 미리 읽는다.
+     * ordered=false : 먼저 읽힌 chunk부터 넘긴다 (파티션 안에서는 memberId 순).
+     * 파티션 하나라도 실패하면 나머지를 취소하고 예외를 다시 던진다.
+     * 각 파티션은 자기 트랜잭션에서 읽으므로 파티션 사이에 하나의 스냅샷을 보장하지 않는다.
+     * 파티션마다 DbAdmissionLimiter permit을 받으므로 이미 permit을 잡은 스레드에서 호출하지 말 것.
+     *
+     * @return sink로 넘긴 행 수
+     */
+    public long export(MemberSearchCondition condition, int partitions, boolean ordered,
+                       Consumer<MemberTeamDto> sink) {
+        Optional<MemberIdRange> idRange = readOnlyTx.execute(status -> memberJpaRepository.idRange());
+        if (idRange == null || idRange.isEmpty()) {
+            return 0;
+        }
+        // 파티션이 DB permit을 전부 잡고 앞 파티션을 기다리는 일이 없도록 풀 크기 이하로
+        List<MemberIdRange> ranges = idRange.get().split(Math.min(partitions, dbAdmissionLimiter.maxConcurrency()));
+
+        BlockingQueue<Chunk> shared = ordered ? null : new ArrayBlockingQueue<>(QUEUE_CHUNKS * ranges.size());
+        List<BlockingQueue<Chunk>> queues = new ArrayList<>(ranges.size());
+        List<Future<?>> futures = new ArrayList<>(ranges.size());
+        for (MemberIdRange range : ranges) {
+            BlockingQueue<Chunk> queue = ordered ? new ArrayBlockingQueue<>(QUEUE_CHUNKS) : shared;
+            queues.add(queue);
+            futures.add(executor.submit(() -> readPartition(condition, range, queue)));
+        }
+
+        try {
+            long rows = 0;
+            if (ordered) {
+                for (BlockingQueue<Chunk> queue : queues) {
+                    rows += drain(queue, 1, sink);
+                }
+            } else {
+                rows = drain(shared, ranges.size(), sink);
+            }
+            return rows;
+        } finally {
+            // 정상 종료면 이미 끝난 작업들이라 영향 없음
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    // 파티션 partitions개가 모두 끝날 때까지 queue의 chunk를 sink로
+    private long drain(BlockingQueue<Chunk> queue, int partitions, Consumer<MemberTeamDto> sink) {
+        long rows = 0;
+        int finished = 0;
+        while (finished < partitions) {
+            Chunk chunk = take(queue);
+            if (chunk.error() != null) {
+                throw chunk.error() instanceof RuntimeException e ? e : new IllegalStateException(chunk.error());
+            }
+            chunk.rows().forEach(sink);
+            rows += chunk.rows().size();
+            if (chunk.last()) {
+                finished++;
+            }
+        }
+        return rows;
+    }
+
+    private void readPartition(MemberSearchCondition condition, MemberIdRange range, BlockingQueue<Chunk> queue) {
+        try {
+            dbAdmissionLimiter.call(() -> readOnlyTx.execute(status -> {
+                ChunkWriter writer = new ChunkWriter(queue);
+                memberJpaRepository.searchEach(condition, range, CHUNK_SIZE, writer);
+                writer.finish();
+                return null;
+            }));
+        } catch (CancellationException e) {
+            // 소비 쪽에서 취소함
+        } catch (Throwable e) {
+            try {
+                put(queue, new Chunk(List.of(), true, e));
+            } catch (CancellationException ignored) {
+            }
+        }
+    }
+
+    private static void put(BlockingQueue<Chunk> queue, Chunk chunk) {
+        try {
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("export cancelled");
+        }
+    }
+
+    private static Chunk take(BlockingQueue<Chunk> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("export interrupted");
+        }
+    }
+
+    // 커서에서 읽은 행을 CHUNK_SIZE 단위로 묶어 queue에 넣는다. (queue가 차 있으면 커서도 대기)
+    private static final class ChunkWriter implements Consumer<MemberTeamDto> {
+
+        private final BlockingQueue<Chunk> queue;
+        private List<MemberTeamDto> buffer = new ArrayList<>(CHUNK_SIZE);
+
+        ChunkWriter(BlockingQueue<Chunk> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void accept(MemberTeamDto dto) {
+            buffer.add(dto);
+            if (buffer.size() == CHUNK_SIZE) {
+                put(queue, new Chunk(buffer, false, null));
+                buffer = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+
+        void finish() {
+            put(queue, new Chunk(buffer, true, null));
+        }
+    }
+
+    // last : 파티션의 마지막 chunk, error가 있으면 실패한 파티션
+    private record Chunk(List<MemberTeamDto> rows, boolean last, Throwable error) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.study.querydsl.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.repository.support.CacheTransactions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : MemberSearchCache
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : search 결과 캐시 (TTL + 최대 건수), 쓰기 발생 시 전체 무효화
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class MemberSearchCache {
+
+    private final Cache<Key, List<Row>> cache;
+    // 무효화될 때마다 증가, 무효화 이전에 DB에서 읽은 결과가 뒤늦게 캐시에 들어가는 것을 막는다.
+    private final AtomicLong generation = new AtomicLong();
+    // miss는 호출한 읽기 트랜잭션(replica)에서 읽는다. replica는 커밋보다 늦을 수 있으므로
+    // 마지막 무효화 후 이 시간 안에 시작한 조회 결과는 돌려주기만 하고 캐시에 넣지 않는다. (이전 값이 TTL 동안 남지 않게)
+    private final long replicaLagNanos;
+    private volatile long invalidatedAtNanos;
+
+    @Autowired
+    public MemberSearchCache(@Value("${app.member.search-cache.ttl:30s}") Duration ttl,
+                             @Value("${app.member.search-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${app.member.search-cache.replica-lag:1s}") Duration replicaLag) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.replicaLagNanos = replicaLag.toNanos();
+        this.invalidatedAtNanos = System.nanoTime() - replicaLagNanos;
+    }
+
+    public MemberSearchCache(Duration ttl, long maximumSize) {
+        this(ttl, maximumSize, Duration.ZERO);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이거나 트랜잭션 밖에서만 캐시를 쓴다.
+     * 쓰기 트랜잭션은 아직 flush 안 된 자기 변경(changeTeam 등)을 봐야 하므로 항상 loader로 DB 조회.
+     * 캐시에는 불변 Row로 넣고 꺼낼 때마다 새 MemberTeamDto를 만든다. (@Data DTO를 호출한 쪽이 고쳐도 캐시는 그대로)
+     * miss는 호출한 트랜잭션에서 loader를 실행하고, 무효화 직후(replica-lag 안)에 읽은 결과는 캐시하지 않는다.
+     */
+    public List<MemberTeamDto> get(MemberSearchCondition condition,
+                                   Function<MemberSearchCondition, List<MemberTeamDto>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.apply(condition);
+        }
+
+        Key key = Key.of(condition);
+        List<Row> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return toDtos(cached);
+        }
+
+        long loadedAt = generation.get();
+        long startedAtNanos = System.nanoTime();
+        List<Row> rows = loader.apply(condition).stream().map(Row::of).toList();
+        if (generation.get() == loadedAt && startedAtNanos - invalidatedAtNanos >= replicaLagNanos) {
+            cache.put(key, rows);
+            // 확인과 put 사이에 무효화됐으면 직접 뺀다. (무효화가 확인 뒤라면 그 invalidateAll이 put 이후에 지운다)
+            if (generation.get() != loadedAt) {
+                cache.asMap().remove(key, rows);
+            }
+        }
+        return toDtos(rows);
+    }
+
+    private static List<MemberTeamDto> toDtos(List<Row> rows) {
+        List<MemberTeamDto> dtos = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            dtos.add(new MemberTeamDto(row.memberId(), row.username(), row.age(), row.teamId(), row.teamName()));
+        }
+        return dtos;
+    }
+
+    public void invalidateAll() {
+        invalidatedAtNanos = System.nanoTime();
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public void invalidateAfterCompletion() {
+        CacheTransactions.invalidateNowAndAfterCompletion(this::invalidateAll);
+    }
+
+    /**
+     * hitRate(), evictionCount() 등
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private record Row(Long memberId, String username, int age, Long teamId, String teamName) {
+        static Row of(MemberTeamDto dto) {
+            return new Row(dto.getMemberId(), dto.getUsername(), dto.getAge(), dto.getTeamId(), dto.getTeamName());
+        }
+    }
+
+    // 빈 문자열 조건은 조건 없음과 같으므로 null로 정규화
+    private record Key(String username, String teamname, Integer ageGoe, Integer ageLoe) {
+        static Key of(MemberSearchCondition condition) {
+            return new Key(
+                    StringUtils.hasText(condition.getUsername()) ? condition.getUsername() : null,
+                    StringUtils.hasText(condition.getTeamname()) ? condition.getTeamname() : null,
+                    condition.getAgeGoe(),
+                    condition.getAgeLoe()
+            );
+        }
+    }
+}
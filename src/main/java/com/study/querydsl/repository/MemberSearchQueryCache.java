@@ -0,0 +1,132 @@
+package com.study.querydsl.repository;
+
+import com.querydsl.core.types.dsl.Param;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.dto.QMemberTeamDto;
+import com.study.querydsl.repository.support.PreparedJpaQuery;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : MemberSearchQueryCache
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : search() 조건 조합(shape)별로 준비된(PreparedJpaQuery) 쿼리 캐시
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSearchQueryCache {
+
+    // 조건 4개의 유무 -> 0 ~ 15
+    private static final int USERNAME = 1;
+    private static final int TEAMNAME = 1 << 1;
+    private static final int AGE_GOE = 1 << 2;
+    private static final int AGE_LOE = 1 << 3;
+    private static final int SHAPES = 1 << 4;
+
+    private static final Param<String> USERNAME_PARAM = new Param<>(String.class, "username");
+    private static final Param<String> TEAMNAME_PARAM = new Param<>(String.class, "teamname");
+    private static final Param<Integer> AGE_GOE_PARAM = new Param<>(Integer.class, "ageGoe");
+    private static final Param<Integer> AGE_LOE_PARAM = new Param<>(Integer.class, "ageLoe");
+
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    private final QMemberTeamDto projection = new QMemberTeamDto(
+            member.id.as("memberId"),
+            member.username,
+            member.age,
+            team.id.as("teamId"),
+            team.name.as("teamName")
+    );
+    private final AtomicReferenceArray<PreparedJpaQuery<MemberTeamDto>> queryByShape = new AtomicReferenceArray<>(SHAPES);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Querydsl 표현식 트리 생성/직렬화는 shape당 한 번만 하고, 이후에는 준비된 쿼리에 파라미터만 바인딩한다.
+     * JPQL 문자열이 같으므로 Hibernate도 쿼리 plan cache에서 파싱 결과를 재사용한다.
+     */
+    public List<MemberTeamDto> search(MemberSearchCondition condition) {
+        int shape = shapeOf(condition);
+        PreparedJpaQuery<MemberTeamDto> query = queryByShape.get(shape);
+        if (query == null) {
+            misses.increment();
+            query = prepare(shape);
+            queryByShape.set(shape, query);
+        } else {
+            hits.increment();
+        }
+
+        // shape에 없는 Param은 쿼리에 없으므로 바인딩해도 무시된다.
+        Map<Param<?>, Object> bindings = new HashMap<>(8);
+        bindings.put(USERNAME_PARAM, condition.getUsername());
+        bindings.put(TEAMNAME_PARAM, condition.getTeamname());
+        bindings.put(AGE_GOE_PARAM, condition.getAgeGoe());
+        bindings.put(AGE_LOE_PARAM, condition.getAgeLoe());
+        return query.fetch(bindings);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    // 팀명 조건이 있으면 left join과 결과가 같으므로 inner join, team.name 인덱스에서 시작할 수 있다.
+    private PreparedJpaQuery<MemberTeamDto> prepare(int shape) {
+        JPAQuery<MemberTeamDto> query = queryFactory
+                .select(projection)
+                .from(member);
+        if ((shape & TEAMNAME) != 0) {
+            query.join(member.team, team);
+        } else {
+            query.leftJoin(member.team, team);
+        }
+        return PreparedJpaQuery.of(em, query
+                .where(
+                        (shape & USERNAME) != 0 ? member.username.eq(USERNAME_PARAM) : null,
+                        (shape & TEAMNAME) != 0 ? team.name.eq(TEAMNAME_PARAM) : null,
+                        (shape & AGE_GOE) != 0 ? member.age.goe(AGE_GOE_PARAM) : null,
+                        (shape & AGE_LOE) != 0 ? member.age.loe(AGE_LOE_PARAM) : null
+                ));
+    }
+
+    private static int shapeOf(MemberSearchCondition condition) {
+        int shape = 0;
+        if (StringUtils.hasText(condition.getUsername())) {
+            shape |= USERNAME;
+        }
+        if (StringUtils.hasText(condition.getTeamname())) {
+            shape |= TEAMNAME;
+        }
+        if (condition.getAgeGoe() != null) {
+            shape |= AGE_GOE;
+        }
+        if (condition.getAgeLoe() != null) {
+            shape |= AGE_LOE;
+        }
+        return shape;
+    }
+}
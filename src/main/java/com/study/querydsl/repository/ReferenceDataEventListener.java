@@ -0,0 +1,69 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import com.study.querydsl.repository.support.PostCommitEntityListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : ReferenceDataEventListener
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Member/Team insert/update/delete가 커밋되면 해당 id를 ReferenceDataSnapshot 갱신 대상으로 표시
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class ReferenceDataEventListener extends PostCommitEntityListener {
+
+    private final ReferenceDataSnapshot referenceDataSnapshot;
+
+    public ReferenceDataEventListener(EntityManagerFactory emf, ReferenceDataSnapshot referenceDataSnapshot) {
+        super(emf);
+        this.referenceDataSnapshot = referenceDataSnapshot;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return isMember(persister) || isTeam(persister);
+    }
+
+    private void changed(EntityPersister persister, Object id) {
+        if (isMember(persister)) {
+            referenceDataSnapshot.memberChanged((Long) id);
+        } else if (isTeam(persister)) {
+            referenceDataSnapshot.teamChanged((Long) id);
+        }
+    }
+
+    private static boolean isMember(EntityPersister persister) {
+        return Member.class.equals(persister.getMappedClass());
+    }
+
+    private static boolean isTeam(EntityPersister persister) {
+        return Team.class.equals(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,376 @@
+package com.study.querydsl.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.dto.QMemberTeamDto;
+import com.study.querydsl.dto.TeamDto;
+import com.study.querydsl.repository.support.CacheTransactions;
+import com.study.querydsl.repository.support.ExpressionEvaluator;
+import com.study.querydsl.repository.support.FastProjection;
+import com.study.querydsl.repository.support.FastProjections;
+import com.study.querydsl.repository.support.InListPadding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : ReferenceDataSnapshot
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Team 전체와 회원(MemberTeamDto 수준) 스냅샷을 메모리에 두고 QMember/QTeam 조건을 메모리에서 평가
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class ReferenceDataSnapshot {
+
+    private static final int REFRESH_BATCH_SIZE = 100;
+    // 전체 적재 때 팀 수만큼 만들어지므로 Projections.constructor의 행마다 리플렉션 대신 준비된 생성자 호출
+    private static final FastProjection<TeamDto> TEAM_DTO = FastProjections.constructor(TeamDto.class, team.id, team.name);
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate refreshTx;
+    private final TransactionTemplate readOnlyTx;
+    private final long maxMembers;
+    private final long recheckIntervalNanos;
+
+    private final ExpressionEvaluator<MemberRow> memberEvaluator = new ExpressionEvaluator<>(Map.<Path<?>, Function<MemberRow, ?>>of(
+            member.id, MemberRow::memberId,
+            member.username, MemberRow::username,
+            member.age, MemberRow::age,
+            member.team.id, MemberRow::teamId,
+            member.team.name, MemberRow::teamName,
+            team.id, MemberRow::teamId,
+            team.name, MemberRow::teamName
+    ));
+    private final ExpressionEvaluator<TeamDto> teamEvaluator = new ExpressionEvaluator<>(Map.<Path<?>, Function<TeamDto, ?>>of(
+            team.id, TeamDto::teamId,
+            team.name, TeamDto::name
+    ));
+
+    private final Object lock = new Object();
+    // null이면 다음 조회 때 전체 적재
+    private volatile State state;
+    // 회원 수가 maxMembers를 넘으면 스냅샷을 만들지 않고 SQL
+    // 그동안 회원 변경이 커밋되면 recheck, 다음 조회 때 (recheckInterval에 한 번까지) 회원 수를 다시 세서 한도 아래면 적재
+    private volatile boolean disabled;
+    private volatile boolean recheck;
+    private long nextRecheckNanos; // lock 안에서만
+    // 커밋됐지만 아직 스냅샷에 반영하지 않은 id, 다음 조회 때 이 id만 다시 읽는다.
+    private final Set<Long> dirtyMembers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyTeams = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public ReferenceDataSnapshot(JPAQueryFactory queryFactory, PlatformTransactionManager transactionManager,
+                                 @Value("${app.reference-snapshot.max-members:100000}") long maxMembers,
+                                 @Value("${app.reference-snapshot.recheck-interval:10s}") Duration recheckInterval) {
+        this.queryFactory = queryFactory;
+        this.refreshTx = CacheTransactions.primaryRead(transactionManager);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.maxMembers = maxMembers;
+        this.recheckIntervalNanos = recheckInterval.toNanos();
+    }
+
+    /**
+     * member/team(member.team) 경로 조건과 숫자 정렬은 메모리에서, 그 외(서브쿼리, 다른 alias, 문자열 정렬 등)는 SQL로.
+     * 커밋된 데이터 기준이라 현재 트랜잭션에서 아직 커밋하지 않은 변경은 보이지 않는다.
+     * 정렬 값이 같으면 memberId 순.
+     * ex) findMembers(member.age.between(20, 30).and(team.name.eq("teamA")), member.age.desc())
+     */
+    public List<MemberTeamDto> findMembers(Predicate where, OrderSpecifier<?>... orders) {
+        return members(where, orders, MemberRow::toDto, () -> queryFactory
+                .select(new QMemberTeamDto(member.id, member.username, member.age, team.id, team.name))
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(where)
+                .orderBy(orders)
+                .fetch());
+    }
+
+    /**
+     * 컬럼 하나 또는 CaseBuilder 식을 select.
+     * ex) selectMembers(new CaseBuilder().when(member.age.between(0, 20)).then(2).otherwise(3), null)
+     */
+    public <V> List<V> selectMembers(Expression<V> select, Predicate where, OrderSpecifier<?>... orders) {
+        Optional<Function<MemberRow, V>> mapper = memberEvaluator.value(select);
+        Supplier<List<V>> sql = () -> queryFactory
+                .select(select)
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(where)
+                .orderBy(orders)
+                .fetch();
+        if (mapper.isEmpty()) {
+            return fallback(sql);
+        }
+        return members(where, orders, mapper.get(), sql);
+    }
+
+    // team.id, team.name 조건, teamId 순
+    public List<TeamDto> findTeams(Predicate where) {
+        Optional<java.util.function.Predicate<TeamDto>> filter = teamEvaluator.predicate(where);
+        State current = filter.isPresent() ? current() : null;
+        if (current == null) {
+            return fallback(() -> queryFactory
+                    .select(TEAM_DTO)
+                    .from(team)
+                    .where(where)
+                    .orderBy(team.id.asc())
+                    .fetch());
+        }
+        hits.increment();
+        return current.teams.values().stream()
+                .filter(filter.get())
+                .sorted(Comparator.comparing(TeamDto::teamId))
+                .toList();
+    }
+
+    public Optional<TeamDto> findTeam(Long teamId) {
+        State current = current();
+        if (current == null) {
+            return findTeams(team.id.eq(teamId)).stream().findFirst();
+        }
+        hits.increment();
+        return Optional.ofNullable(current.teams.get(teamId));
+    }
+
+    public void invalidateAfterCompletion() {
+        CacheTransactions.invalidateNowAndAfterCompletion(this::invalidate);
+    }
+
+    public void invalidate() {
+        synchronized (lock) {
+            state = null;
+            disabled = false;
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    // ReferenceDataEventListener : 커밋된 insert/update/delete
+    void memberChanged(Long memberId) {
+        if (disabled) {
+            recheck = true;
+        } else {
+            dirtyMembers.add(memberId);
+        }
+    }
+
+    void teamChanged(Long teamId) {
+        if (!disabled) {
+            dirtyTeams.add(teamId);
+        }
+    }
+
+    private <V> List<V> members(Predicate where, OrderSpecifier<?>[] orders, Function<MemberRow, V> mapper,
+                                Supplier<List<V>> sql) {
+        Optional<java.util.function.Predicate<MemberRow>> filter = memberEvaluator.predicate(where);
+        Optional<Comparator<MemberRow>> order = memberEvaluator.comparator(List.of(orders));
+        State current = filter.isPresent() && order.isPresent() ? current() : null;
+        if (current == null) {
+            return fallback(sql);
+        }
+        hits.increment();
+        List<MemberRow> rows = new ArrayList<>();
+        for (MemberRow row : current.members.values()) {
+            if (filter.get().test(row)) {
+                rows.add(row);
+            }
+        }
+        if (orders.length > 0) {
+            rows.sort(order.get()); // stable sort, 같은 값은 memberId 순 유지
+        }
+        List<V> result = new ArrayList<>(rows.size());
+        for (MemberRow row : rows) {
+            result.add(mapper.apply(row));
+        }
+        return result;
+    }
+
+    private <V> List<V> fallback(Supplier<List<V>> sql) {
+        fallbacks.increment();
+        return readOnlyTx.execute(status -> sql.get());
+    }
+
+    // 반영할 변경이 없으면 lock 없이 바로, 있으면 lock 안에서 적재/부분 갱신. 스냅샷을 쓸 수 없으면 null
+    private State current() {
+        State current = state;
+        if (current != null && dirtyMembers.isEmpty() && dirtyTeams.isEmpty()) {
+            return current;
+        }
+        if (disabled && !recheck) {
+            return null;
+        }
+        synchronized (lock) {
+            if (disabled) {
+                if (!recheck || System.nanoTime() - nextRecheckNanos < 0) {
+                    return null;
+                }
+                recheck = false;
+            }
+            if (state == null) {
+                // 읽기 전에 비워야, 읽는 도중 커밋된 변경이 다음 조회 때 다시 반영된다.
+                dirtyMembers.clear();
+                dirtyTeams.clear();
+                state = refreshTx.execute(status -> load());
+                disabled = state == null;
+                if (disabled) {
+                    nextRecheckNanos = System.nanoTime() + recheckIntervalNanos;
+                    // 세는 도중 커밋된 회원 변경은 dirtyMembers에 들어갔으므로 다음 확인 대상
+                    recheck = !dirtyMembers.isEmpty();
+                }
+            } else {
+                List<Long> teamIds = drain(dirtyTeams);
+                List<Long> memberIds = drain(dirtyMembers);
+                refreshTx.executeWithoutResult(status -> {
+                    reloadTeams(state, teamIds);
+                    reloadMembers(state, memberIds);
+                });
+            }
+            return state;
+        }
+    }
+
+    private State load() {
+        Long count = queryFactory.select(member.count()).from(member).fetchOne();
+        if (count != null && count > maxMembers) {
+            return null;
+        }
+        State loaded = new State();
+        for (TeamDto t : queryFactory
+                .select(TEAM_DTO)
+                .from(team)
+                .fetch()) {
+            loaded.teams.put(t.teamId(), t);
+        }
+        for (Tuple row : memberRows().fetch()) {
+            MemberRow memberRow = MemberRow.of(row);
+            loaded.members.put(memberRow.memberId(), memberRow);
+        }
+        return loaded;
+    }
+
+    private void reloadTeams(State current, List<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return;
+        }
+        Set<Long> changed = new HashSet<>(teamIds);
+        Set<Long> found = new HashSet<>();
+        for (List<Long> batch : InListPadding.partition(teamIds, REFRESH_BATCH_SIZE)) {
+            for (TeamDto t : queryFactory
+                    .select(TEAM_DTO)
+                    .from(team)
+                    .where(team.id.in(batch))
+                    .fetch()) {
+                current.teams.put(t.teamId(), t);
+                found.add(t.teamId());
+            }
+        }
+        for (Long teamId : changed) {
+            if (!found.contains(teamId)) {
+                current.teams.remove(teamId);
+            }
+        }
+        // 팀 이름은 회원 행에도 들어 있다.
+        current.members.replaceAll((id, row) -> row.teamId() != null && changed.contains(row.teamId())
+                ? row.withTeamName(Optional.ofNullable(current.teams.get(row.teamId())).map(TeamDto::name).orElse(null))
+                : row);
+    }
+
+    private void reloadMembers(State current, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Set<Long> found = new HashSet<>();
+        for (List<Long> batch : InListPadding.partition(memberIds, REFRESH_BATCH_SIZE)) {
+            for (Tuple row : memberRows().where(member.id.in(batch)).fetch()) {
+                MemberRow memberRow = MemberRow.of(row);
+                current.members.put(memberRow.memberId(), memberRow);
+                found.add(memberRow.memberId());
+            }
+        }
+        for (Long memberId : memberIds) {
+            if (!found.contains(memberId)) {
+                current.members.remove(memberId);
+            }
+        }
+    }
+
+    private JPAQuery<Tuple> memberRows() {
+        return queryFactory
+                .select(member.id, member.username, member.age, team.id, team.name)
+                .from(member)
+                .leftJoin(member.team, team);
+    }
+
+    private static List<Long> drain(Set<Long> ids) {
+        List<Long> drained = new ArrayList<>(ids.size());
+        for (Iterator<Long> it = ids.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    // members는 memberId 순, 부분 갱신은 lock 안에서만 하고 조회는 lock 없이 읽는다.
+    private static final class State {
+
+        private final ConcurrentSkipListMap<Long, MemberRow> members = new ConcurrentSkipListMap<>();
+        private final Map<Long, TeamDto> teams = new ConcurrentHashMap<>();
+    }
+
+    private record MemberRow(Long memberId, String username, int age, Long teamId, String teamName) {
+
+        static MemberRow of(Tuple row) {
+            Integer age = row.get(member.age);
+            return new MemberRow(row.get(member.id), row.get(member.username), age != null ? age : 0,
+                    row.get(team.id), row.get(team.name));
+        }
+
+        MemberRow withTeamName(String name) {
+            return new MemberRow(memberId, username, age, teamId, name);
+        }
+
+        // MemberTeamDto는 setter가 있으므로 조회마다 새로 만든다.
+        MemberTeamDto toDto() {
+            return new MemberTeamDto(memberId, username, age, teamId, teamName);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.study.querydsl.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.entity.Team;
+import com.study.querydsl.repository.support.InListPadding;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : TeamJpaRepository
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 팀 + 소속 회원 로딩, id로 먼저 페이징한 뒤 회원은 IN 묶음으로 한 번에 (N+1, fetch join 페이징 회피)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Repository
+public class TeamJpaRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final int memberBatchSize;
+
+    public TeamJpaRepository(JPAQueryFactory queryFactory,
+                             @Value("${app.team.member-batch-size:100}") int memberBatchSize) {
+        this.queryFactory = queryFactory;
+        this.memberBatchSize = memberBatchSize;
+    }
+
+    /**
+     * 1) team id만 offset/limit 페이징 (pageSize + 1건, count 쿼리 없음, 쿼리 캐시)
+     * 2) 그 id들로 team + members fetch join
+     * 컬렉션 fetch join을 페이징 쿼리에 쓰지 않으므로 DB에서 페이징되고 (메모리 페이징 경고 없음),
+     * 페이지가 member-batch-size 이하면 쿼리 2번. members의 member.team은 같은 team 인스턴스라 추가 조회 없음.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Team> findSliceWithMembers(Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        List<Long> ids = queryFactory
+                .select(team.id)
+                .from(team)
+                .orderBy(team.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageSize + 1)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, Team.QUERY_CACHE_REGION)
+                .fetch();
+
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        return new SliceImpl<>(findAllWithMembers(pageIds), pageable, hasNext);
+    }
+
+    /**
+     * 팀 이름으로 조회, 쿼리 캐시(Team.QUERY_CACHE_REGION)에는 team id만 저장되고 Team은 2차 캐시에서 가져온다.
+     * team 테이블이 바뀌면 (벌크 HQL 포함) Hibernate가 캐시된 결과를 쓰지 않고 다시 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<Team> findByName(String name) {
+        return queryFactory
+                .selectFrom(team)
+                .where(team.name.eq(name))
+                .orderBy(team.id.asc())
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, Team.QUERY_CACHE_REGION)
+                .fetch();
+    }
+
+    /**
+     * teamIds 순서대로 members가 초기화된 Team, 없는 id는 빠진다.
+     * IN 목록은 member-batch-size 단위로 나누고 2의 거듭제곱 길이로 채워서 SQL 모양 수를 줄인다.
+     */
+    @Transactional(readOnly = true)
+    public List<Team> findAllWithMembers(Collection<Long> teamIds) {
+        Map<Long, Team> byId = new HashMap<>(teamIds.size() * 2);
+        for (List<Long> batch : InListPadding.partition(List.copyOf(teamIds), memberBatchSize)) {
+            for (Team t : queryFactory
+                    .selectFrom(team)
+                    .leftJoin(team.members, member).fetchJoin()
+                    .where(team.id.in(batch))
+                    .fetch()) {
+                byId.put(t.getId(), t);
+            }
+        }
+
+        List<Team> result = new ArrayList<>(teamIds.size());
+        for (Long id : teamIds) {
+            Team t = byId.get(id);
+            if (t != null) {
+                result.add(t);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,184 @@
+package com.study.querydsl.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.TeamStats;
+import com.study.querydsl.repository.support.CacheTransactions;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static com.study.querydsl.entity.QMember.member;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : TeamStatsCache
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 팀별 회원 수/나이 합계/최소/최대를 커밋된 변경분으로 갱신해 두고 조회 시 스캔 없이 반환
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class TeamStatsCache {
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate rebuildTx;
+
+    private final Object lock = new Object();
+    // null이면 stale -> 다음 조회 때 group by 한 번으로 다시 만든다.
+    private Map<Long, TeamAges> teams;
+    // 변경(delta 기록, 무효화)마다 증가
+    private long generation;
+    // 회원 변경을 flush 했지만 아직 커밋/롤백 전인 트랜잭션 수
+    private int pending;
+
+    public TeamStatsCache(JPAQueryFactory queryFactory, PlatformTransactionManager transactionManager) {
+        this.queryFactory = queryFactory;
+        this.rebuildTx = CacheTransactions.primaryRead(transactionManager);
+    }
+
+    /**
+     * 커밋된 데이터 기준, 회원이 없거나 존재하지 않는 팀은 count 0.
+     * 현재 트랜잭션에서 아직 커밋하지 않은 변경은 반영되지 않는다.
+     */
+    public TeamStats get(Long teamId) {
+        return read(teams -> {
+            TeamAges ages = teams.get(teamId);
+            return ages != null ? ages.stats : TeamStats.empty(teamId);
+        });
+    }
+
+    // teamId -> 집계, 회원이 있는 팀만
+    public Map<Long, TeamStats> getAll() {
+        return read(teams -> {
+            Map<Long, TeamStats> result = new HashMap<>(teams.size() * 2);
+            teams.forEach((teamId, ages) -> result.put(teamId, ages.stats));
+            return result;
+        });
+    }
+
+    public void invalidateAfterCompletion() {
+        CacheTransactions.invalidateNowAndAfterCompletion(this::invalidate);
+    }
+
+    public void invalidate() {
+        synchronized (lock) {
+            teams = null;
+            generation++;
+        }
+    }
+
+    // TeamStatsEventListener : 트랜잭션에서 처음 회원 변경이 flush 될 때
+    void beginPending() {
+        synchronized (lock) {
+            pending++;
+            generation++;
+        }
+    }
+
+    void recorded() {
+        synchronized (lock) {
+            generation++;
+        }
+    }
+
+    // 커밋됐으면 deltas 반영, 롤백이면 버린다.
+    void endPending(List<AgeDelta> deltas, boolean committed) {
+        synchronized (lock) {
+            pending--;
+            generation++;
+            if (committed && teams != null) {
+                for (AgeDelta delta : deltas) {
+                    TeamAges ages = teams.computeIfAbsent(delta.teamId(), TeamAges::new);
+                    ages.add(delta.age(), delta.sign());
+                    if (ages.count == 0) {
+                        teams.remove(delta.teamId());
+                    }
+                }
+            }
+        }
+    }
+
+    // 집계 map은 lock 안에서만 읽는다. stale이면 DB에서 다시 만든다. (lock 밖에서)
+    private <R> R read(Function<Map<Long, TeamAges>, R> reader) {
+        long startGeneration;
+        synchronized (lock) {
+            if (teams != null) {
+                return reader.apply(teams);
+            }
+            startGeneration = pending == 0 ? generation : -1;
+        }
+
+        Map<Long, TeamAges> loaded = rebuildTx.execute(status -> load());
+        synchronized (lock) {
+            // 읽는 동안 커밋 전/후 경계에 걸린 트랜잭션이 있었다면 이번 결과만 쓰고 캐시는 stale 유지
+            if (teams == null && startGeneration == generation) {
+                teams = loaded;
+            }
+            return reader.apply(teams != null ? teams : loaded);
+        }
+    }
+
+    // 팀별 나이 분포 (team_id, age, count) 한 번 스캔
+    private Map<Long, TeamAges> load() {
+        List<Tuple> rows = queryFactory
+                .select(member.team.id, member.age, member.count())
+                .from(member)
+                .where(member.team.isNotNull())
+                .groupBy(member.team.id, member.age)
+                .fetch();
+        Map<Long, TeamAges> loaded = new HashMap<>();
+        for (Tuple row : rows) {
+            Long teamId = row.get(member.team.id);
+            loaded.computeIfAbsent(teamId, TeamAges::new)
+                    .add(row.get(member.age), row.get(member.count()).intValue());
+        }
+        return loaded;
+    }
+
+    // 회원 한 명의 (팀, 나이) 추가(+1)/제거(-1)
+    record AgeDelta(Long teamId, int age, int sign) {
+    }
+
+    /**
+     * 나이별 인원 수를 들고 있어서 최소/최대 나이 회원이 빠져도 다시 스캔하지 않는다.
+     * 조회용 TeamStats는 변경 때마다 미리 만들어 둔다.
+     */
+    private static final class TeamAges {
+
+        private final Long teamId;
+        private final TreeMap<Integer, Integer> countByAge = new TreeMap<>();
+        private long count;
+        private long ageSum;
+        private TeamStats stats;
+
+        TeamAges(Long teamId) {
+            this.teamId = teamId;
+            this.stats = TeamStats.empty(teamId);
+        }
+
+        void add(int age, int n) {
+            countByAge.merge(age, n, (a, b) -> a + b == 0 ? null : a + b);
+            count += n;
+            ageSum += (long) age * n;
+            stats = countByAge.isEmpty() ? TeamStats.empty(teamId)
+                    : new TeamStats(teamId, count, ageSum, countByAge.firstKey(), countByAge.lastKey());
+        }
+    }
+
+    // 다음 조회 때 DB를 다시 읽어야 하는지
+    public boolean isStale() {
+        synchronized (lock) {
+            return teams == null;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import com.study.querydsl.repository.support.EntityEventListeners;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : TeamStatsEventListener
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Member insert/update/delete가 flush 될 때 (팀, 나이) 변경분을 트랜잭션별로 모아 커밋 후 TeamStatsCache에 반영
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamStatsEventListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    private final EntityManagerFactory emf;
+    private final TeamStatsCache teamStatsCache;
+
+    // 커밋 전(flush 시점) 이벤트로 트랜잭션별 변경분을 모으고, 커밋/롤백은 Pending(TransactionSynchronization)에서 처리
+    @PostConstruct
+    void register() {
+        EntityEventListeners.append(emf, this, EventType.POST_INSERT, EventType.POST_UPDATE, EventType.POST_DELETE);
+    }
+
+    // save, saveAll
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (isMember(event.getPersister())) {
+            record(List.of(delta(event.getPersister(), event.getState(), 1)));
+        }
+    }
+
+    // changeTeam, setAge (dirty checking), 이전 상태 -1, 새 상태 +1
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!isMember(event.getPersister())) {
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        if (event.getOldState() == null) {
+            // 이전 값을 모르는 경우 (select 없이 update된 준영속 엔티티 등)
+            teamStatsCache.invalidateAfterCompletion();
+            return;
+        }
+        TeamStatsCache.AgeDelta before = delta(persister, event.getOldState(), -1);
+        TeamStatsCache.AgeDelta after = delta(persister, event.getState(), 1);
+        if (Objects.equals(before.teamId(), after.teamId()) && before.age() == after.age()) {
+            return;
+        }
+        record(Arrays.asList(before, after));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (isMember(event.getPersister())) {
+            record(List.of(delta(event.getPersister(), event.getDeletedState(), -1)));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(List<TeamStatsCache.AgeDelta> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            teamStatsCache.invalidate();
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+            teamStatsCache.beginPending();
+        } else {
+            teamStatsCache.recorded();
+        }
+        for (TeamStatsCache.AgeDelta delta : deltas) {
+            if (delta.teamId() != null) {
+                pending.deltas.add(delta);
+            }
+        }
+    }
+
+    private static TeamStatsCache.AgeDelta delta(EntityPersister persister, Object[] state, int sign) {
+        Object team = state[indexOf(persister, "team")];
+        int age = (Integer) state[indexOf(persister, "age")];
+        return new TeamStatsCache.AgeDelta(teamId(team), age, sign);
+    }
+
+    private static int indexOf(EntityPersister persister, String property) {
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException(persister.getEntityName() + " has no property " + property);
+    }
+
+    // 지연 로딩 프록시는 초기화하지 않고 id만 꺼낸다.
+    private static Long teamId(Object team) {
+        if (team == null) {
+            return null;
+        }
+        if (team instanceof HibernateProxy proxy) {
+            return (Long) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        return ((Team) team).getId();
+    }
+
+    private static boolean isMember(EntityPersister persister) {
+        return Member.class.equals(persister.getMappedClass());
+    }
+
+    // 트랜잭션 하나에서 모은 변경분
+    // REQUIRES_NEW로 바깥 트랜잭션이 중단되면 unbind 해서, 안쪽 트랜잭션 변경분은 안쪽 Pending에 따로 모인다.
+    private final class Pending implements TransactionSynchronization {
+
+        private final List<TeamStatsCache.AgeDelta> deltas = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(TeamStatsEventListener.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TeamStatsEventListener.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TeamStatsEventListener.this);
+            teamStatsCache.endPending(deltas, status == STATUS_COMMITTED);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.repository.support.PostCommitEntityListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : UsernameIndexEventListener
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 커밋된 Member insert/update/delete의 username을 UsernamePrefixIndex에 반영 (DB 재조회 없음)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Component
+public class UsernameIndexEventListener extends PostCommitEntityListener {
+
+    private final UsernamePrefixIndex usernamePrefixIndex;
+
+    public UsernameIndexEventListener(EntityManagerFactory emf, UsernamePrefixIndex usernamePrefixIndex) {
+        super(emf);
+        this.usernamePrefixIndex = usernamePrefixIndex;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            usernamePrefixIndex.put((Long) event.getId(), username(event.getPersister(), event.getState()));
+        }
+    }
+
+    // age, team만 바뀐 update는 무시
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!requiresPostCommitHandling(event.getPersister())) {
+            return;
+        }
+        String username = username(event.getPersister(), event.getState());
+        if (event.getOldState() != null
+                && Objects.equals(username(event.getPersister(), event.getOldState()), username)) {
+            return;
+        }
+        usernamePrefixIndex.put((Long) event.getId(), username);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            usernamePrefixIndex.remove((Long) event.getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Member.class.equals(persister.getMappedClass());
+    }
+
+    private static String username(EntityPersister persister, Object[] state) {
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals("username")) {
+                return (String) state[i];
+            }
+        }
+        throw new IllegalStateException(persister.getEntityName() + " has no property username");
+    }
+}
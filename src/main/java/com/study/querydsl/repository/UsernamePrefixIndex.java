@@ -0,0 +1,442 @@
+package com.study.querydsl.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.UsernameSuggestion;
+import com.study.querydsl.monitor.UsernameIndexStats;
+import com.study.querydsl.repository.support.CacheTransactions;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static com.study.querydsl.entity.QMember.member;
+
+/**
+ * packageName    : com.study.querydsl.repository
+ * fileName       : UsernamePrefixIndex
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : username 접두사 자동완성용 메모리 인덱스 (UTF-8 정렬 배열 + 변경분 delta)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+@Slf4j
+@Component
+public class UsernamePrefixIndex {
+
+    public static final int MAX_LIMIT = 100;
+    private static final int SCAN_FETCH_SIZE = MemberJpaRepository.DEFAULT_FETCH_SIZE;
+    // delta 항목 하나 (Entry + byte[] 헤더 + TreeSet/HashMap 노드 + Long) 대략적인 크기
+    private static final int DELTA_ENTRY_OVERHEAD = 144;
+    private static final int REMOVED_ID_OVERHEAD = 64;
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate buildTx;
+    private final int mergeThreshold;
+    private final boolean buildOnStartup;
+
+    // 조회는 read lock, 변경 반영/병합/교체는 write lock. 아래 필드는 lock 안에서만
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object buildLock = new Object();
+    // null이면 아직 만들지 않았거나 무효화됨, 다음 조회 때 DB 전체 스캔
+    private Sorted base;
+    private final TreeSet<Entry> delta = new TreeSet<>(Entry.ORDER);
+    private final Map<Long, Entry> deltaById = new HashMap<>();
+    // base에 있을 수 있지만 바뀌었거나 삭제된 id, 조회 시 base에서 건너뛴다.
+    private final Set<Long> removed = new HashSet<>();
+    // 스캔 중에 커밋된 변경, 스캔 결과에 다시 적용한다.
+    private List<Change> replay;
+    private long generation;
+
+    private final LongAdder lookups = new LongAdder();
+    private long builds;
+    private long compactions;
+    private long lastBuildMillis;
+
+    public UsernamePrefixIndex(JPAQueryFactory queryFactory, PlatformTransactionManager transactionManager,
+                               @Value("${app.username-index.merge-threshold:1024}") int mergeThreshold,
+                               @Value("${app.username-index.build-on-startup:true}") boolean buildOnStartup) {
+        this.queryFactory = queryFactory;
+        this.buildTx = CacheTransactions.primaryRead(transactionManager);
+        this.mergeThreshold = mergeThreshold;
+        this.buildOnStartup = buildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void buildOnStartup() {
+        if (buildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * username이 prefix로 시작하는 회원을 (username, memberId) 순으로 최대 limit건.
+     * 대소문자를 구분하고, 순서는 DB collation이 아닌 UTF-8 바이트(코드 포인트) 순이다.
+     * 커밋된 데이터 기준이며 무효화된 직후(벌크 연산 후) 첫 조회는 전체 스캔을 기다린다.
+     */
+    public List<UsernameSuggestion> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        int max = Math.min(limit, MAX_LIMIT);
+        byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+        lookups.increment();
+        while (true) {
+            lock.readLock().lock();
+            try {
+                if (base != null) {
+                    return collect(key, max);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            rebuild();
+        }
+    }
+
+    public UsernameIndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = base != null ? base.estimatedBytes() : 0;
+            long deltaBytes = 0;
+            for (Entry entry : delta) {
+                deltaBytes += DELTA_ENTRY_OVERHEAD + entry.name().length;
+            }
+            bytes += deltaBytes + (long) removed.size() * REMOVED_ID_OVERHEAD;
+            return new UsernameIndexStats(base != null, base != null ? base.size() : 0, delta.size(),
+                    removed.size(), bytes, builds, compactions, lastBuildMillis, lookups.sum());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void invalidateAfterCompletion() {
+        CacheTransactions.invalidateNowAndAfterCompletion(this::invalidate);
+    }
+
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            base = null;
+            clearDelta();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // UsernameIndexEventListener : 커밋된 insert/update (username이 null이면 인덱스에서 뺀다)
+    void put(Long memberId, String username) {
+        apply(new Change(memberId, username != null ? username.getBytes(StandardCharsets.UTF_8) : null));
+    }
+
+    void remove(Long memberId) {
+        apply(new Change(memberId, null));
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (replay != null) {
+                replay.add(change);
+            }
+            if (base != null) {
+                applyToDelta(change);
+                if (delta.size() + removed.size() > mergeThreshold) {
+                    compact();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyToDelta(Change change) {
+        Entry previous = deltaById.remove(change.memberId());
+        if (previous != null) {
+            delta.remove(previous);
+        }
+        removed.add(change.memberId());
+        if (change.name() != null) {
+            Entry entry = new Entry(change.name(), change.memberId());
+            delta.add(entry);
+            deltaById.put(change.memberId(), entry);
+        }
+    }
+
+    /**
+     * DB 전체를 커서로 읽어 정렬 배열을 새로 만든다. 스캔은 lock 밖에서 하고,
+     * 그동안 커밋된 변경은 replay에 모아 교체할 때 다시 적용한다. 스캔 중 무효화되면 다시 스캔한다.
+     */
+    private void rebuild() {
+        synchronized (buildLock) {
+            while (true) {
+                lock.readLock().lock();
+                try {
+                    if (base != null) {
+                        return;
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+                long expected;
+                lock.writeLock().lock();
+                try {
+                    expected = generation;
+                    replay = new ArrayList<>();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                long started = System.nanoTime();
+                Sorted scanned = buildTx.execute(status -> scan());
+                long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+                lock.writeLock().lock();
+                try {
+                    List<Change> changes = replay;
+                    replay = null;
+                    if (generation != expected) {
+                        continue;
+                    }
+                    base = scanned;
+                    clearDelta();
+                    changes.forEach(this::applyToDelta);
+                    builds++;
+                    lastBuildMillis = elapsedMillis;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("username index built: {} entries, ~{} KB, {} ms",
+                        scanned.size(), scanned.estimatedBytes() / 1024, elapsedMillis);
+                return;
+            }
+        }
+    }
+
+    // 정렬용 임시 Entry 목록은 스캔하는 동안만 있고, 남는 것은 압축된 배열뿐이다.
+    private Sorted scan() {
+        List<Entry> entries = new ArrayList<>();
+        try (Stream<Tuple> rows = queryFactory
+                .select(member.id, member.username)
+                .from(member)
+                .where(member.username.isNotNull())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, SCAN_FETCH_SIZE)
+                .stream()) {
+            rows.forEach(row -> entries.add(new Entry(
+                    row.get(member.username).getBytes(StandardCharsets.UTF_8), row.get(member.id))));
+        }
+        entries.sort(Entry.ORDER);
+        return Sorted.of(entries);
+    }
+
+    // base에서 removed를 빼고 delta를 합친 새 배열로 교체 (write lock 안)
+    private void compact() {
+        int entries = base.size() + delta.size();
+        int length = base.bytes.length;
+        for (Entry entry : delta) {
+            length += entry.name().length;
+        }
+        Sorted.Builder merged = new Sorted.Builder(entries, length);
+        Iterator<Entry> d = delta.iterator();
+        Entry next = d.hasNext() ? d.next() : null;
+        for (int i = 0; i < base.size(); i++) {
+            if (removed.contains(base.ids[i])) {
+                continue;
+            }
+            while (next != null && base.compareTo(i, next) > 0) {
+                merged.add(next);
+                next = d.hasNext() ? d.next() : null;
+            }
+            merged.add(base, i);
+        }
+        while (next != null) {
+            merged.add(next);
+            next = d.hasNext() ? d.next() : null;
+        }
+        base = merged.build();
+        clearDelta();
+        compactions++;
+    }
+
+    private void clearDelta() {
+        delta.clear();
+        deltaById.clear();
+        removed.clear();
+    }
+
+    // base와 delta에서 prefix 범위를 정렬 순서대로 합치며 limit건 (read lock 안)
+    private List<UsernameSuggestion> collect(byte[] prefix, int limit) {
+        List<UsernameSuggestion> result = new ArrayList<>(limit);
+        int i = base.lowerBound(prefix);
+        Iterator<Entry> d = delta.tailSet(new Entry(prefix, Long.MIN_VALUE), true).iterator();
+        Entry next = nextMatching(d, prefix);
+        while (result.size() < limit) {
+            while (i < base.size() && base.startsWith(i, prefix) && removed.contains(base.ids[i])) {
+                i++;
+            }
+            boolean inBase = i < base.size() && base.startsWith(i, prefix);
+            if (!inBase && next == null) {
+                break;
+            }
+            if (next == null || (inBase && base.compareTo(i, next) < 0)) {
+                result.add(new UsernameSuggestion(base.ids[i], base.name(i)));
+                i++;
+            } else {
+                result.add(new UsernameSuggestion(next.memberId(), new String(next.name(), StandardCharsets.UTF_8)));
+                next = nextMatching(d, prefix);
+            }
+        }
+        return result;
+    }
+
+    private static Entry nextMatching(Iterator<Entry> it, byte[] prefix) {
+        if (!it.hasNext()) {
+            return null;
+        }
+        Entry entry = it.next();
+        return startsWith(entry.name(), 0, entry.name().length, prefix) ? entry : null;
+    }
+
+    private static boolean startsWith(byte[] bytes, int from, int to, byte[] prefix) {
+        return to - from >= prefix.length && Arrays.equals(bytes, from, from + prefix.length, prefix, 0, prefix.length);
+    }
+
+    /**
+     * (username, memberId) 순으로 정렬된 불변 배열. username은 UTF-8로 bytes 하나에 이어 붙이고
+     * offsets[i] ~ offsets[i + 1]이 i번째 username, ids[i]가 그 memberId.
+     * String/객체 없이 항목당 username 바이트 + 12바이트.
+     */
+    private static final class Sorted {
+
+        private final byte[] bytes;
+        private final int[] offsets;
+        private final long[] ids;
+
+        private Sorted(byte[] bytes, int[] offsets, long[] ids) {
+            this.bytes = bytes;
+            this.offsets = offsets;
+            this.ids = ids;
+        }
+
+        static Sorted of(List<Entry> sorted) {
+            int length = 0;
+            for (Entry entry : sorted) {
+                length += entry.name().length;
+            }
+            Builder builder = new Builder(sorted.size(), length);
+            sorted.forEach(builder::add);
+            return builder.build();
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        long estimatedBytes() {
+            // 배열 헤더 16바이트씩
+            return 48L + bytes.length + 4L * offsets.length + 8L * ids.length;
+        }
+
+        String name(int i) {
+            return new String(bytes, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+        }
+
+        boolean startsWith(int i, byte[] prefix) {
+            return UsernamePrefixIndex.startsWith(bytes, offsets[i], offsets[i + 1], prefix);
+        }
+
+        int compareTo(int i, Entry entry) {
+            int c = Arrays.compareUnsigned(bytes, offsets[i], offsets[i + 1], entry.name(), 0, entry.name().length);
+            return c != 0 ? c : Long.compare(ids[i], entry.memberId());
+        }
+
+        // username >= prefix 인 첫 위치
+        int lowerBound(byte[] prefix) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (Arrays.compareUnsigned(bytes, offsets[mid], offsets[mid + 1], prefix, 0, prefix.length) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // 정렬된 순서대로 add, 최대 크기만큼 잡고 build 때 실제 크기로 자른다.
+        static final class Builder {
+
+            private final byte[] bytes;
+            private final int[] offsets;
+            private final long[] ids;
+            private int size;
+            private int position;
+
+            Builder(int maxEntries, int maxBytes) {
+                this.bytes = new byte[maxBytes];
+                this.offsets = new int[maxEntries + 1];
+                this.ids = new long[maxEntries];
+            }
+
+            void add(Entry entry) {
+                add(entry.name(), 0, entry.name().length, entry.memberId());
+            }
+
+            void add(Sorted source, int i) {
+                add(source.bytes, source.offsets[i], source.offsets[i + 1], source.ids[i]);
+            }
+
+            private void add(byte[] name, int from, int to, long memberId) {
+                offsets[size] = position;
+                System.arraycopy(name, from, bytes, position, to - from);
+                position += to - from;
+                ids[size++] = memberId;
+            }
+
+            Sorted build() {
+                offsets[size] = position;
+                return new Sorted(Arrays.copyOf(bytes, position), Arrays.copyOf(offsets, size + 1),
+                        Arrays.copyOf(ids, size));
+            }
+        }
+    }
+
+    private record Entry(byte[] name, long memberId) {
+
+        // UTF-8 바이트를 unsigned로 비교하면 코드 포인트 순서와 같다.
+        static final Comparator<Entry> ORDER = (a, b) -> {
+            int c = Arrays.compareUnsigned(a.name, b.name);
+            return c != 0 ? c : Long.compare(a.memberId, b.memberId);
+        };
+    }
+
+    // name이 null이면 삭제
+    private record Change(Long memberId, byte[] name) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.study.querydsl.repository.support;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : CacheTransactions
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 커밋 후 변경분으로 갱신하는 메모리 캐시(TeamStatsCache, ReferenceDataSnapshot, UsernamePrefixIndex 등)의 트랜잭션 처리
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class CacheTransactions {
+
+    private CacheTransactions() {
+    }
+
+    /**
+     * 캐시 적재용 트랜잭션, 호출한 트랜잭션과 분리(REQUIRES_NEW)하고 읽기만 하지만 readOnly로 두지 않는다.
+     * readOnly면 replica로 라우팅되는데, replica는 커밋보다 늦을 수 있어서
+     * 커밋 직후 이벤트로 받는 변경분과 섞으면 그 사이 변경이 빠지거나 두 번 반영된다. 그래서 primary에서 읽는다.
+     */
+    public static TransactionTemplate primaryRead(PlatformTransactionManager transactionManager) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tx;
+    }
+
+    /**
+     * 벌크 연산 등 변경된 행을 알 수 없을 때, 지금 바로 무효화하고 트랜잭션 안이면 커밋/롤백 후에 한 번 더 무효화한다.
+     * (커밋 전에 다른 스레드가 이전 값으로 다시 채워 넣은 경우 대비)
+     */
+    public static void invalidateNowAndAfterCompletion(Runnable invalidate) {
+        invalidate.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.querydsl.repository.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : EntityEventListeners
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Spring 빈을 Hibernate 엔티티 이벤트 리스너로 등록
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class EntityEventListeners {
+
+    private EntityEventListeners() {
+    }
+
+    @SafeVarargs
+    public static <T> void append(EntityManagerFactory emf, T listener, EventType<? super T>... types) {
+        EventListenerRegistry registry = emf.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        for (EventType<? super T> type : types) {
+            registry.appendListeners(type, listener);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.study.querydsl.repository.support;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Operator;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : ExpressionEvaluator
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Querydsl where/select/orderBy 표현식을 메모리의 행(T)에 대해 평가하는 함수로 변환
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class ExpressionEvaluator<T> {
+
+    private final Map<Expression<?>, Function<T, ?>> paths;
+
+    /**
+     * paths : 평가할 수 있는 Path와 행에서 값을 꺼내는 함수 (ex. member.username -> MemberTeamDto::getUsername)
+     * 등록되지 않은 Path, 서브쿼리, 템플릿, 지원하지 않는 연산자가 있으면 각 메서드가 empty를 돌려준다. (호출한 쪽에서 SQL로)
+     */
+    public ExpressionEvaluator(Map<? extends Path<?>, Function<T, ?>> paths) {
+        this.paths = new HashMap<>(paths);
+    }
+
+    /**
+     * SQL과 같은 3값 논리, 조건 결과가 null(unknown)인 행은 빠진다. where가 null이면 모든 행.
+     */
+    public Optional<java.util.function.Predicate<T>> predicate(Predicate where) {
+        if (where == null) {
+            return Optional.of(row -> true);
+        }
+        try {
+            Function<T, Boolean> condition = condition(where);
+            return Optional.of(row -> Boolean.TRUE.equals(condition.apply(row)));
+        } catch (UnsupportedExpressionException e) {
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> Optional<Function<T, V>> value(Expression<V> expression) {
+        try {
+            return Optional.of((Function<T, V>) valueOf(expression));
+        } catch (UnsupportedExpressionException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 숫자/boolean 정렬만 지원한다. 문자열 정렬은 DB collation과 달라질 수 있어서 empty.
+     * null 위치를 지정하지 않으면 PostgreSQL 기본값(오름차순 nulls last, 내림차순 nulls first)을 따른다.
+     */
+    public Optional<Comparator<T>> comparator(List<OrderSpecifier<?>> orders) {
+        Comparator<T> result = (a, b) -> 0;
+        try {
+            for (OrderSpecifier<?> order : orders) {
+                if (String.class.equals(order.getTarget().getType())) {
+                    throw new UnsupportedExpressionException(order.getTarget());
+                }
+                Function<T, ?> key = valueOf(order.getTarget());
+                boolean nullsFirst = switch (order.getNullHandling()) {
+                    case NullsFirst -> true;
+                    case NullsLast -> false;
+                    default -> !order.isAscending();
+                };
+                Comparator<Object> values = order.isAscending()
+                        ? ExpressionEvaluator::compare
+                        : (a, b) -> compare(b, a);
+                Comparator<Object> withNulls = nullsFirst ? Comparator.nullsFirst(values) : Comparator.nullsLast(values);
+                result = result.thenComparing(key::apply, withNulls);
+            }
+            return Optional.of(result);
+        } catch (UnsupportedExpressionException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Function<T, ?> valueOf(Expression<?> expression) {
+        if (expression instanceof Constant<?> constant) {
+            Object value = constant.getConstant();
+            return row -> value;
+        }
+        if (expression instanceof Path<?> path) {
+            Function<T, ?> accessor = paths.get(path);
+            if (accessor == null) {
+                throw new UnsupportedExpressionException(path);
+            }
+            return accessor;
+        }
+        if (expression instanceof Operation<?> operation) {
+            Operator op = operation.getOperator();
+            // CASE(CASE_WHEN(조건1, 값1, CASE_WHEN(조건2, 값2, CASE_ELSE(기본값)))) 형태 (CaseBuilder)
+            if (op == Ops.CASE || op == Ops.CASE_ELSE) {
+                return valueOf(operation.getArg(0));
+            }
+            if (op == Ops.CASE_WHEN) {
+                Function<T, Boolean> when = condition(operation.getArg(0));
+                Function<T, ?> then = valueOf(operation.getArg(1));
+                Function<T, ?> otherwise = valueOf(operation.getArg(2));
+                return row -> Boolean.TRUE.equals(when.apply(row)) ? then.apply(row) : otherwise.apply(row);
+            }
+            if (Boolean.class.equals(operation.getType())) {
+                return condition(operation);
+            }
+        }
+        throw new UnsupportedExpressionException(expression);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<T, Boolean> condition(Expression<?> expression) {
+        if (expression instanceof BooleanBuilder builder) {
+            return builder.getValue() != null ? condition(builder.getValue()) : row -> true;
+        }
+        if (!(expression instanceof Operation<?> operation)) {
+            // Boolean 컬럼, 상수
+            if (!Boolean.class.equals(expression.getType())) {
+                throw new UnsupportedExpressionException(expression);
+            }
+            return (Function<T, Boolean>) valueOf(expression);
+        }
+
+        Operator op = operation.getOperator();
+        if (op == Ops.AND || op == Ops.OR) {
+            Function<T, Boolean> left = condition(operation.getArg(0));
+            Function<T, Boolean> right = condition(operation.getArg(1));
+            return op == Ops.AND ? row -> and(left.apply(row), right.apply(row))
+                    : row -> or(left.apply(row), right.apply(row));
+        }
+        if (op == Ops.NOT) {
+            Function<T, Boolean> inner = condition(operation.getArg(0));
+            return row -> {
+                Boolean value = inner.apply(row);
+                return value == null ? null : !value;
+            };
+        }
+        if (op == Ops.IS_NULL || op == Ops.IS_NOT_NULL) {
+            Function<T, ?> arg = valueOf(operation.getArg(0));
+            boolean isNull = op == Ops.IS_NULL;
+            return row -> (arg.apply(row) == null) == isNull;
+        }
+        if (op == Ops.BETWEEN) {
+            rejectStringRange(operation);
+            Function<T, ?> arg = valueOf(operation.getArg(0));
+            Function<T, ?> from = valueOf(operation.getArg(1));
+            Function<T, ?> to = valueOf(operation.getArg(2));
+            return row -> {
+                Object v = arg.apply(row);
+                return and(compare(v, from.apply(row), c -> c >= 0), compare(v, to.apply(row), c -> c <= 0));
+            };
+        }
+        if (op == Ops.IN || op == Ops.NOT_IN) {
+            Function<T, ?> arg = valueOf(operation.getArg(0));
+            if (!(operation.getArg(1) instanceof Constant<?> constant)
+                    || !(constant.getConstant() instanceof Collection<?> candidates)) {
+                throw new UnsupportedExpressionException(operation);
+            }
+            boolean in = op == Ops.IN;
+            return row -> {
+                Boolean found = in(arg.apply(row), candidates);
+                return found == null ? null : found == in;
+            };
+        }
+
+        Function<T, ?> left = valueOf(operation.getArg(0));
+        Function<T, ?> right = operation.getArgs().size() > 1 ? valueOf(operation.getArg(1)) : null;
+        if (op == Ops.EQ) {
+            return row -> equal(left.apply(row), right.apply(row));
+        }
+        if (op == Ops.NE) {
+            return row -> {
+                Boolean equal = equal(left.apply(row), right.apply(row));
+                return equal == null ? null : !equal;
+            };
+        }
+        if (op == Ops.LT || op == Ops.LOE || op == Ops.GT || op == Ops.GOE) {
+            rejectStringRange(operation);
+            java.util.function.IntPredicate test = op == Ops.LT ? c -> c < 0
+                    : op == Ops.LOE ? c -> c <= 0
+                    : op == Ops.GT ? c -> c > 0
+                    : c -> c >= 0;
+            return row -> compare(left.apply(row), right.apply(row), test);
+        }
+        if (op == Ops.EQ_IGNORE_CASE || op == Ops.STARTS_WITH || op == Ops.ENDS_WITH || op == Ops.STRING_CONTAINS) {
+            return row -> {
+                Object l = left.apply(row);
+                Object r = right.apply(row);
+                if (l == null || r == null) {
+                    return null;
+                }
+                String s = l.toString();
+                String t = r.toString();
+                if (op == Ops.EQ_IGNORE_CASE) {
+                    return s.equalsIgnoreCase(t);
+                }
+                return op == Ops.STARTS_WITH ? s.startsWith(t) : op == Ops.ENDS_WITH ? s.endsWith(t) : s.contains(t);
+            };
+        }
+        throw new UnsupportedExpressionException(operation);
+    }
+
+    // 문자열 대소 비교는 collation 의존
+    private static void rejectStringRange(Operation<?> operation) {
+        if (String.class.equals(operation.getArg(0).getType())) {
+            throw new UnsupportedExpressionException(operation);
+        }
+    }
+
+    private static Boolean and(Boolean a, Boolean b) {
+        if (Boolean.FALSE.equals(a) || Boolean.FALSE.equals(b)) {
+            return false;
+        }
+        return a == null || b == null ? null : true;
+    }
+
+    private static Boolean or(Boolean a, Boolean b) {
+        if (Boolean.TRUE.equals(a) || Boolean.TRUE.equals(b)) {
+            return true;
+        }
+        return a == null || b == null ? null : false;
+    }
+
+    private static Boolean equal(Object a, Object b) {
+        if (a == null || b == null) {
+            return null;
+        }
+        if (a instanceof Number && b instanceof Number) {
+            return compare(a, b) == 0;
+        }
+        return a.equals(b);
+    }
+
+    private static Boolean compare(Object a, Object b, java.util.function.IntPredicate test) {
+        if (a == null || b == null) {
+            return null;
+        }
+        return test.test(compare(a, b));
+    }
+
+    // SQL처럼 목록에 없고 null이 섞여 있으면 unknown
+    private static Boolean in(Object value, Collection<?> candidates) {
+        if (value == null) {
+            return null;
+        }
+        boolean unknown = false;
+        for (Object candidate : candidates) {
+            Boolean equal = equal(value, candidate);
+            if (Boolean.TRUE.equals(equal)) {
+                return true;
+            }
+            unknown |= equal == null;
+        }
+        return unknown ? null : false;
+    }
+
+    // Integer 컬럼과 Long 상수처럼 타입이 다른 숫자도 값으로 비교
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object a, Object b) {
+        if (a instanceof Number x && b instanceof Number y && !a.getClass().equals(b.getClass())) {
+            if (isIntegral(x) && isIntegral(y)) {
+                return Long.compare(x.longValue(), y.longValue());
+            }
+            return Double.compare(x.doubleValue(), y.doubleValue());
+        }
+        return ((Comparable) a).compareTo(Objects.requireNonNull(b));
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte;
+    }
+
+    private static final class UnsupportedExpressionException extends RuntimeException {
+
+        UnsupportedExpressionException(Expression<?> expression) {
+            super(expression.toString(), null, false, false);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.querydsl.repository.support;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpressionBase;
+import com.querydsl.core.types.Visitor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : FastProjection
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : FastProjections가 만든 DTO projection, 행마다 미리 만들어 둔 instantiator만 호출
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class FastProjection<T> extends FactoryExpressionBase<T> {
+
+    private final List<Expression<?>> args;
+    private final Function<Object[], ?> instantiator;
+
+    FastProjection(Class<? extends T> type, List<Expression<?>> args, Function<Object[], ?> instantiator) {
+        super(type);
+        this.args = args;
+        this.instantiator = instantiator;
+    }
+
+    @Override
+    public List<Expression<?>> getArgs() {
+        return args;
+    }
+
+    /**
+     * args 배열은 그대로 재사용될 수 있다. (primitive 자리의 null을 기본값으로 바꾸는 등)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object... args) {
+        return (T) instantiator.apply(args);
+    }
+
+    @Override
+    public <R, C> R accept(Visitor<R, C> v, C context) {
+        return v.visit(this, context);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof FastProjection<?> other
+                && getType().equals(other.getType())
+                && args.equals(other.args);
+    }
+}
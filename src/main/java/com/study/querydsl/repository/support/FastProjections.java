@@ -0,0 +1,311 @@
+package com.study.querydsl.repository.support;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionException;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : FastProjections
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Projections.bean / fields / constructor 대체, 리플렉션 대신 MethodHandle/LambdaMetafactory 사용
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class FastProjections {
+
+    private enum Kind { BEAN, FIELDS, CONSTRUCTOR }
+
+    // DTO 클래스 + 접근 방식 + 프로퍼티명(또는 생성자 인자 타입) 조합마다 한 번만 만든다.
+    private record Signature(Class<?> type, Kind kind, List<?> members) {
+    }
+
+    private static final Map<Signature, Function<Object[], ?>> INSTANTIATORS = new ConcurrentHashMap<>();
+
+    private FastProjections() {
+    }
+
+    /**
+     * Projections.bean과 같은 규칙 : 기본 생성자 + setter, 이름은 path명 또는 as()의 alias.
+     * 맞는 setter가 없는 프로퍼티와 null 값은 건너뛴다. record면 컴포넌트 이름으로 정규 생성자를 호출한다.
+     */
+    public static <T> FastProjection<T> bean(Class<? extends T> type, Expression<?>... exprs) {
+        return named(type, Kind.BEAN, exprs);
+    }
+
+    /**
+     * Projections.fields와 같은 규칙 : 기본 생성자 + 필드 직접 대입 (private 필드 포함).
+     */
+    public static <T> FastProjection<T> fields(Class<? extends T> type, Expression<?>... exprs) {
+        return named(type, Kind.FIELDS, exprs);
+    }
+
+    /**
+     * Projections.constructor와 같은 규칙 : 인자 타입 순서대로 맞는 생성자, primitive 자리의 null은 기본값.
+     */
+    public static <T> FastProjection<T> constructor(Class<? extends T> type, Expression<?>... exprs) {
+        List<Class<?>> argTypes = new ArrayList<>(exprs.length);
+        for (Expression<?> expr : exprs) {
+            argTypes.add(expr.getType());
+        }
+        Function<Object[], ?> instantiator = INSTANTIATORS.computeIfAbsent(
+                new Signature(type, Kind.CONSTRUCTOR, List.copyOf(argTypes)),
+                s -> constructorInstantiator(type, argTypes.toArray(new Class<?>[0])));
+        return new FastProjection<>(type, List.of(exprs), instantiator);
+    }
+
+    private static <T> FastProjection<T> named(Class<? extends T> type, Kind kind, Expression<?>... exprs) {
+        List<String> names = new ArrayList<>(exprs.length);
+        List<Expression<?>> args = new ArrayList<>(exprs.length);
+        for (Expression<?> expr : exprs) {
+            // QBean과 같이 alias는 이름으로만 쓰고 select에는 원래 표현식을 넣는다.
+            if (expr instanceof Operation<?> op && op.getOperator() == Ops.ALIAS) {
+                names.add(((Path<?>) op.getArg(1)).getMetadata().getName());
+                args.add(op.getArg(0));
+            } else if (expr instanceof Path<?> path) {
+                names.add(path.getMetadata().getName());
+                args.add(expr);
+            } else {
+                throw new IllegalArgumentException("alias가 필요합니다 : " + expr);
+            }
+        }
+        Function<Object[], ?> instantiator = INSTANTIATORS.computeIfAbsent(
+                new Signature(type, kind, List.copyOf(names)),
+                s -> type.isRecord() ? recordInstantiator(type, names)
+                        : kind == Kind.BEAN ? beanInstantiator(type, names)
+                        : fieldsInstantiator(type, names));
+        return new FastProjection<>(type, List.copyOf(args), instantiator);
+    }
+
+    private static Function<Object[], ?> beanInstantiator(Class<?> type, List<String> names) {
+        MethodHandles.Lookup lookup = lookupIn(type);
+        Supplier<Object> factory = noArgFactory(lookup, type);
+        BiConsumer<Object, Object>[] setters = newSetterArray(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            Method setter = findSetter(type, names.get(i));
+            setters[i] = setter != null ? setterLambda(lookup, setter) : null;
+        }
+        return populate(factory, setters);
+    }
+
+    private static Function<Object[], ?> fieldsInstantiator(Class<?> type, List<String> names) {
+        MethodHandles.Lookup lookup = lookupIn(type);
+        Supplier<Object> factory = noArgFactory(lookup, type);
+        BiConsumer<Object, Object>[] setters = newSetterArray(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            Field field = findField(type, names.get(i));
+            setters[i] = field != null ? fieldSetter(field) : null;
+        }
+        return populate(factory, setters);
+    }
+
+    private static Function<Object[], ?> populate(Supplier<Object> factory, BiConsumer<Object, Object>[] setters) {
+        return args -> {
+            Object bean = factory.get();
+            for (int i = 0; i < setters.length; i++) {
+                Object value = args[i];
+                if (value != null && setters[i] != null) {
+                    setters[i].accept(bean, value);
+                }
+            }
+            return bean;
+        };
+    }
+
+    private static Function<Object[], ?> recordInstantiator(Class<?> type, List<String> names) {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        // 인자 i -> 컴포넌트 위치, 이름이 없는 인자는 -1
+        int[] positions = new int[names.size()];
+        Arrays.fill(positions, -1);
+        for (int c = 0; c < components.length; c++) {
+            componentTypes[c] = components[c].getType();
+            int arg = names.indexOf(components[c].getName());
+            if (arg >= 0) {
+                positions[arg] = c;
+            }
+        }
+        Function<Object[], ?> canonical = constructorInstantiator(type, componentTypes);
+        return args -> {
+            Object[] values = new Object[components.length];
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] >= 0) {
+                    values[positions[i]] = args[i];
+                }
+            }
+            return canonical.apply(values);
+        };
+    }
+
+    private static Function<Object[], ?> constructorInstantiator(Class<?> type, Class<?>[] argTypes) {
+        Constructor<?> constructor = findConstructor(type, argTypes);
+        Class<?>[] paramTypes = constructor.getParameterTypes();
+        Object[] defaults = new Object[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            if (paramTypes[i].isPrimitive()) {
+                defaults[i] = Array.get(Array.newInstance(paramTypes[i], 1), 0);
+            }
+        }
+        MethodHandle handle;
+        try {
+            // (Object[])Object 로 맞춰 두면 invokeExact 한 번으로 unboxing까지 처리된다.
+            handle = lookupIn(type).unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(paramTypes.length))
+                    .asSpreader(Object[].class, paramTypes.length);
+        } catch (IllegalAccessException e) {
+            throw new ExpressionException(e.getMessage(), e);
+        }
+        return args -> {
+            for (int i = 0; i < defaults.length; i++) {
+                if (args[i] == null && defaults[i] != null) {
+                    args[i] = defaults[i];
+                }
+            }
+            try {
+                return (Object) handle.invokeExact(args);
+            } catch (Throwable e) {
+                throw new ExpressionException(e.getMessage(), e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> noArgFactory(MethodHandles.Lookup lookup, Class<?> type) {
+        try {
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructor,
+                    MethodType.methodType(type));
+            return (Supplier<Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new ExpressionException("기본 생성자가 필요합니다 : " + type.getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setterLambda(MethodHandles.Lookup lookup, Method setter) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(setter);
+        } catch (IllegalAccessException e) {
+            throw new ExpressionException(e.getMessage(), e);
+        }
+        try {
+            // 반환값이 있는 setter(체이닝)도 void로 버려진다.
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(void.class, setter.getDeclaringClass(), wrap(setter.getParameterTypes()[0])));
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            // 다른 모듈/클래스로더의 DTO 등 람다를 만들 수 없으면 MethodHandle로 대체
+            return handleSetter(handle.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+        }
+    }
+
+    // 필드는 LambdaMetafactory 대상이 될 수 없으므로 MethodHandle 그대로 쓴다.
+    private static BiConsumer<Object, Object> fieldSetter(Field field) {
+        try {
+            return handleSetter(lookupIn(field.getDeclaringClass()).unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class)));
+        } catch (IllegalAccessException e) {
+            throw new ExpressionException(e.getMessage(), e);
+        }
+    }
+
+    private static BiConsumer<Object, Object> handleSetter(MethodHandle handle) {
+        return (bean, value) -> {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw new ExpressionException(e.getMessage(), e);
+            }
+        };
+    }
+
+    private static MethodHandles.Lookup lookupIn(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new ExpressionException(e.getMessage(), e);
+        }
+    }
+
+    private static Method findSetter(Class<?> type, String property) {
+        String name = "set" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == 1
+                    && !Modifier.isStatic(method.getModifiers())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())
+                        && !Modifier.isFinal(field.getModifiers())) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Constructor<?> findConstructor(Class<?> type, Class<?>[] argTypes) {
+        outer:
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            Class<?>[] paramTypes = constructor.getParameterTypes();
+            if (paramTypes.length != argTypes.length) {
+                continue;
+            }
+            for (int i = 0; i < paramTypes.length; i++) {
+                if (!wrap(paramTypes[i]).isAssignableFrom(wrap(argTypes[i]))) {
+                    continue outer;
+                }
+            }
+            return constructor;
+        }
+        throw new ExpressionException("No constructor found for " + type + " with parameters: "
+                + Arrays.toString(argTypes));
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object>[] newSetterArray(int size) {
+        return new BiConsumer[size];
+    }
+}
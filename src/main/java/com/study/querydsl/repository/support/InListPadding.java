@@ -0,0 +1,49 @@
+package com.study.querydsl.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : InListPadding
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : IN (...) 파라미터 목록을 batch 크기로 나누고 2의 거듭제곱 길이로 채운다. (쿼리 plan 재사용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class InListPadding {
+
+    private InListPadding() {
+    }
+
+    /**
+     * values를 batchSize개씩 나누고 각 묶음을 1, 2, 4, 8 .. batchSize 중 가장 가까운 길이로 맞춘다.
+     * 빈 자리는 마지막 값을 반복한다. (IN 결과는 같고 SQL 모양은 log2(batchSize) + 1가지뿐)
+     */
+    public static <T> List<List<T>> partition(List<T> values, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        List<List<T>> batches = new ArrayList<>((values.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < values.size(); from += batchSize) {
+            batches.add(pad(values.subList(from, Math.min(from + batchSize, values.size())), batchSize));
+        }
+        return batches;
+    }
+
+    static <T> List<T> pad(List<T> values, int batchSize) {
+        // n 이상인 가장 작은 2의 거듭제곱, 단 batchSize를 넘지 않는다.
+        int n = values.size();
+        int size = n == 1 ? 1 : Math.min(Integer.highestOneBit(n - 1) << 1, batchSize);
+        List<T> padded = new ArrayList<>(size);
+        padded.addAll(values);
+        T last = values.get(values.size() - 1);
+        while (padded.size() < size) {
+            padded.add(last);
+        }
+        return padded;
+    }
+}
@@ -0,0 +1,72 @@
+package com.study.querydsl.repository.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : ManagedEntities
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 현재 영속성 컨텍스트에 올라와 있는 엔티티 조회 (벌크 연산 후 선택적 동기화용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class ManagedEntities {
+
+    private ManagedEntities() {
+    }
+
+    /**
+     * type의 managed(읽기 전용 포함) 인스턴스, 삭제 예정/준영속은 제외. DB 조회 없음.
+     * 트랜잭션 안에서 호출할 것. (공유 EntityManager는 트랜잭션에 묶인 세션을 unwrap)
+     */
+    public static <T> List<T> of(EntityManager em, Class<T> type) {
+        Map.Entry<Object, EntityEntry>[] entries = em.unwrap(SharedSessionContractImplementor.class)
+                .getPersistenceContextInternal()
+                .reentrantSafeEntityEntries();
+        List<T> result = new ArrayList<>();
+        for (Map.Entry<Object, EntityEntry> entry : entries) {
+            Status status = entry.getValue().getStatus();
+            if (type.isInstance(entry.getKey()) && (status == Status.MANAGED || status == Status.READ_ONLY)) {
+                result.add(type.cast(entry.getKey()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * ids 중 영속성 컨텍스트에 이미 있는 것, id -> 엔티티. DB 조회 없음.
+     * 삭제 예정인 엔티티는 값이 null로 들어간다. (em.find와 같이 없는 것으로 보고 다시 조회하지 않는다)
+     * 초기화되지 않은 프록시만 있는 id는 결과에 없다.
+     */
+    public static <T> Map<Object, T> byId(EntityManager em, Class<T> type, Collection<?> ids) {
+        SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+        EntityPersister persister = session.getFactory().getRuntimeMetamodels()
+                .getMappingMetamodel()
+                .getEntityDescriptor(type);
+        PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+        Map<Object, T> result = new HashMap<>();
+        for (Object id : ids) {
+            Object entity = persistenceContext.getEntity(session.generateEntityKey(id, persister));
+            if (entity == null) {
+                continue;
+            }
+            Status status = persistenceContext.getEntry(entity).getStatus();
+            result.put(id, status == Status.MANAGED || status == Status.READ_ONLY ? type.cast(entity) : null);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+package com.study.querydsl.repository.support;
+
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.core.types.TemplateExpression;
+import com.querydsl.core.types.Visitor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : ParamCollector
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 쿼리에 나오는 Param을 JPQLSerializer가 번호(?1, ?2..)를 붙이는 순서대로 수집
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+final class ParamCollector implements Visitor<Void, Set<ParamExpression<?>>> {
+
+    private static final ParamCollector INSTANCE = new ParamCollector();
+
+    private ParamCollector() {
+    }
+
+    /**
+     * select -> join(on) -> where -> group by -> having -> order by, 직렬화 순서와 동일.
+     * 상수도 같은 번호 체계를 쓰기 때문에 상수가 섞여 있으면 위치가 어긋난다 -> 상수 대신 Param을 쓸 것.
+     */
+    static List<ParamExpression<?>> collect(QueryMetadata metadata) {
+        Set<ParamExpression<?>> params = new LinkedHashSet<>();
+        collect(metadata, params);
+        return new ArrayList<>(params);
+    }
+
+    private static void collect(QueryMetadata metadata, Set<ParamExpression<?>> params) {
+        accept(metadata.getProjection(), params);
+        for (JoinExpression join : metadata.getJoins()) {
+            accept(join.getTarget(), params);
+            accept(join.getCondition(), params);
+        }
+        accept(metadata.getWhere(), params);
+        for (Expression<?> groupBy : metadata.getGroupBy()) {
+            accept(groupBy, params);
+        }
+        accept(metadata.getHaving(), params);
+        for (OrderSpecifier<?> orderBy : metadata.getOrderBy()) {
+            accept(orderBy.getTarget(), params);
+        }
+    }
+
+    private static void accept(Expression<?> expr, Set<ParamExpression<?>> params) {
+        if (expr != null) {
+            expr.accept(INSTANCE, params);
+        }
+    }
+
+    @Override
+    public Void visit(Constant<?> expr, Set<ParamExpression<?>> params) {
+        throw new IllegalArgumentException("prepared query can not contain inline constant " + expr + ", use Param instead");
+    }
+
+    @Override
+    public Void visit(FactoryExpression<?> expr, Set<ParamExpression<?>> params) {
+        for (Expression<?> arg : expr.getArgs()) {
+            accept(arg, params);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(Operation<?> expr, Set<ParamExpression<?>> params) {
+        for (Expression<?> arg : expr.getArgs()) {
+            accept(arg, params);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ParamExpression<?> expr, Set<ParamExpression<?>> params) {
+        params.add(expr);
+        return null;
+    }
+
+    @Override
+    public Void visit(Path<?> expr, Set<ParamExpression<?>> params) {
+        return null;
+    }
+
+    @Override
+    public Void visit(SubQueryExpression<?> expr, Set<ParamExpression<?>> params) {
+        collect(expr.getMetadata(), params);
+        return null;
+    }
+
+    @Override
+    public Void visit(TemplateExpression<?> expr, Set<ParamExpression<?>> params) {
+        for (Object arg : expr.getArgs()) {
+            if (arg instanceof Expression<?> e) {
+                accept(e, params);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.study.querydsl.repository.support;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : PostCommitEntityListener
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : 커밋된 insert/update/delete만 받는 리스너 (POST_COMMIT_* 등록)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public abstract class PostCommitEntityListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory emf;
+
+    protected PostCommitEntityListener(EntityManagerFactory emf) {
+        this.emf = emf;
+    }
+
+    // 롤백된 변경은 오지 않는다. 벌크 HQL은 이벤트가 없으므로 MemberJpaRepository에서 직접 무효화
+    @PostConstruct
+    void register() {
+        EntityEventListeners.append(emf, this,
+                EventType.POST_COMMIT_INSERT, EventType.POST_COMMIT_UPDATE, EventType.POST_COMMIT_DELETE);
+    }
+
+    // 롤백된 변경은 캐시에 반영된 적이 없으므로 무시
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.study.querydsl.repository.support;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.ParamNotSetException;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.study.querydsl.repository.support
+ * fileName       : PreparedJpaQuery
+ * author         : kmy
+ * date           : 10/18/26
+ * description    : Param 자리표시자로 한 번 만들어 둔 JPAQuery를 바인딩만 바꿔서 반복 실행
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 10/18/26        kmy       최초 생성
+ */
+public final class PreparedJpaQuery<T> {
+
+    private final EntityManager em;
+    private final String jpql;
+    private final List<ParamExpression<?>> params;
+    private final FactoryExpression<T> projection;
+    private final QueryModifiers modifiers;
+    private final Map<String, Object> hints;
+
+    private PreparedJpaQuery(EntityManager em, String jpql, List<ParamExpression<?>> params,
+                             FactoryExpression<T> projection, QueryModifiers modifiers, Map<String, Object> hints) {
+        this.em = em;
+        this.jpql = jpql;
+        this.params = params;
+        this.projection = projection;
+        this.modifiers = modifiers;
+        this.hints = hints;
+    }
+
+    /**
+     * query를 JPQL로 한 번만 직렬화해 둔다. em은 공유 EntityManager(프록시)를 넘길 것.
+     * 조건 값은 모두 Param으로 넣어야 하고, projection은 한 단계짜리 FactoryExpression(QDto, Projections.*)
+     * 또는 엔티티/단일 컬럼만 지원한다.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PreparedJpaQuery<T> of(EntityManager em, JPAQuery<T> query) {
+        QueryMetadata metadata = query.getMetadata();
+        Expression<?> projection = metadata.getProjection();
+        return new PreparedJpaQuery<>(
+                em,
+                query.toString(),
+                ParamCollector.collect(metadata),
+                projection instanceof FactoryExpression ? (FactoryExpression<T>) projection : null,
+                metadata.getModifiers(),
+                Map.of()
+        );
+    }
+
+    /**
+     * 같은 JPQL에 JPA/Hibernate 힌트를 더한 쿼리, 원래 쿼리는 그대로.
+     * ex) withHint(HibernateHints.HINT_READ_ONLY, true)
+     */
+    public PreparedJpaQuery<T> withHint(String name, Object value) {
+        Map<String, Object> merged = new HashMap<>(hints);
+        merged.put(name, value);
+        return new PreparedJpaQuery<>(em, jpql, params, projection, modifiers, Map.copyOf(merged));
+    }
+
+    public <P> List<T> fetch(ParamExpression<P> param, P value) {
+        return fetch(Collections.singletonMap(param, value));
+    }
+
+    /**
+     * bindings에 없는 Param이 쿼리에 있으면 ParamNotSetException, 쿼리에 없는 Param은 무시한다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> fetch(Map<? extends ParamExpression<?>, ?> bindings) {
+        Query query = em.createQuery(jpql);
+        hints.forEach(query::setHint);
+        for (int i = 0; i < params.size(); i++) {
+            ParamExpression<?> param = params.get(i);
+            if (!bindings.containsKey(param)) {
+                throw new ParamNotSetException(param);
+            }
+            query.setParameter(i + 1, bindings.get(param));
+        }
+        Integer limit = modifiers.getLimitAsInteger();
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        Integer offset = modifiers.getOffsetAsInteger();
+        if (offset != null) {
+            query.setFirstResult(offset);
+        }
+
+        List<?> rows = query.getResultList();
+        if (projection == null) {
+            return (List<T>) rows;
+        }
+        List<T> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            result.add(projection.newInstance(row instanceof Object[] args ? args : new Object[]{row}));
+        }
+        return result;
+    }
+
+    public String getJpql() {
+        return jpql;
+    }
+}
@@ -0,0 +1,123 @@
+package com.study.querydsl.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    ReplicaRoutingDataSource routing;
+
+    @AfterEach
+    public void after() throws Exception {
+        routing.close();
+    }
+
+    @Test
+    public void writeGoesToPrimary(){
+        routing = new ReplicaRoutingDataSource(database("primary"), List.of(database("replica0")), Duration.ZERO);
+
+        assertThat(whichDb()).isEqualTo("primary");
+    }
+
+    @Test
+    public void readOnlyRoundRobin(){
+        routing = new ReplicaRoutingDataSource(database("primary"),
+                List.of(database("replica0"), database("replica1")), Duration.ZERO);
+
+        List<String> served = readOnly(() -> List.of(whichDb(), whichDb(), whichDb(), whichDb()));
+
+        assertThat(served).containsExactly("replica0", "replica1", "replica0", "replica1");
+    }
+
+    @Test
+    public void unavailableReplicaSkipped(){
+        routing = new ReplicaRoutingDataSource(database("primary"),
+                List.of(new Switchable(database("down0"), true), database("replica1")), Duration.ZERO);
+
+        List<String> served = readOnly(() -> List.of(whichDb(), whichDb(), whichDb()));
+
+        assertThat(served).containsOnly("replica1");
+        assertThat(routing.healthyReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    public void allReplicasDownFallsBackToPrimary(){
+        routing = new ReplicaRoutingDataSource(database("primary"), List.of(new Switchable(database("down1"), true)), Duration.ZERO);
+
+        assertThat(readOnly(this::whichDb)).isEqualTo("primary");
+        assertThat(routing.healthyReplicas()).isZero();
+    }
+
+    @Test
+    public void recoveredReplicaReturns(){
+        Switchable late = new Switchable(database("late"), true);
+        routing = new ReplicaRoutingDataSource(database("primary"), List.of(late), Duration.ZERO);
+        assertThat(readOnly(this::whichDb)).isEqualTo("primary");
+
+        // replica가 올라온 뒤 health check
+        late.down = false;
+        routing.checkHealth();
+
+        assertThat(routing.healthyReplicas()).isEqualTo(1);
+        assertThat(readOnly(this::whichDb)).isEqualTo("late");
+    }
+
+    private String whichDb() {
+        return new JdbcTemplate(routing).queryForObject("select name from which_db", String.class);
+    }
+
+    private static <T> T readOnly(Supplier<T> work) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return work.get();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    // 자기 이름이 들어 있는 which_db 테이블을 가진 in-memory H2
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url(name), "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists which_db (name varchar(20))");
+        jdbcTemplate.update("delete from which_db");
+        jdbcTemplate.update("insert into which_db values (?)", name);
+        return dataSource;
+    }
+
+    private static String url(String name) {
+        return "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1";
+    }
+
+    // down이면 커넥션 획득 실패 (장애난 replica)
+    static class Switchable extends DelegatingDataSource {
+
+        volatile boolean down;
+
+        Switchable(DataSource target, boolean down) {
+            super(target);
+            this.down = down;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("replica down");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.study.querydsl.config;
+
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.repository.MemberJpaRepository;
+import com.study.querydsl.repository.MemberSearchCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * in-memory H2 두 개를 primary, replica 대신 사용.
+ * 복제는 primary를 SCRIPT로 떠서 replica에 다시 실행하는 것으로 흉내 낸다.
+ * 커밋된 데이터가 필요하므로 @Transactional 없이 직접 정리한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingH2Test.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "app.datasource.replica.urls=" + ReplicaRoutingH2Test.REPLICA_URL
+})
+public class ReplicaRoutingH2Test {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:route-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:route-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MemberSearchCache memberSearchCache;
+
+    // 라우팅을 거치지 않고 각 DB에 직접
+    JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    public void before(){
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                memberJpaRepository.save(new Member("member1", 10)));
+        replicate();
+        // 아직 replica로 복제되지 않은 변경
+        primary.update("update member set username = 'renamed'");
+    }
+
+    @AfterEach
+    public void after(){
+        primary.update("delete from member");
+        replica.execute("drop all objects");
+    }
+
+    @Test
+    public void readOnlyMethodRoutesToReplica(){
+        // 바깥 트랜잭션 없음 -> @Transactional(readOnly = true) 트랜잭션 -> replica
+        assertThat(memberJpaRepository.findByUsername("member1")).hasSize(1);
+        assertThat(memberJpaRepository.findByUsername("renamed")).isEmpty();
+    }
+
+    @Test
+    public void readWriteTransactionStaysOnPrimary(){
+        // 읽기 메서드라도 쓰기 트랜잭션에 참여하면 primary (방금 쓴 데이터를 읽을 수 있다)
+        List<Member> found = new TransactionTemplate(transactionManager).execute(status ->
+                memberJpaRepository.findByUsername("renamed"));
+
+        assertThat(found).hasSize(1);
+    }
+
+    @Test
+    public void readOnlyTransactionTemplateRoutesToReplica(){
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        List<Member> found = readOnlyTx.execute(status -> memberJpaRepository.findAll());
+
+        assertThat(found).extracting(Member::getUsername).containsExactly("member1");
+    }
+
+    @Test
+    public void searchCacheSkipsReplicaReadsRightAfterInvalidation(){
+        memberSearchCache.invalidateAll();
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setAgeGoe(10);
+
+        // 검색은 replica에서 읽는다. 무효화 직후(replica-lag 안)라 아직 복제 안 된 이전 값일 수 있으므로 캐시하지 않는다.
+        long misses = memberSearchCache.stats().missCount();
+        assertThat(memberJpaRepository.search(condition)).extracting(MemberTeamDto::getUsername)
+                .containsExactly("member1");
+        assertThat(memberSearchCache.stats().missCount()).isEqualTo(misses + 1);
+        assertThat(memberSearchCache.estimatedSize()).isZero();
+        memberSearchCache.invalidateAll();
+    }
+
+    private void replicate() {
+        replica.execute("drop all objects");
+        for (String statement : primary.queryForList("script", String.class)) {
+            replica.execute(statement);
+        }
+    }
+}
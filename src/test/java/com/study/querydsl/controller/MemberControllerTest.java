@@ -0,0 +1,85 @@
+package com.study.querydsl.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.member.export.flush-rows=2")
+@AutoConfigureMockMvc
+@Transactional
+public class MemberControllerTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void before(){
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+
+        em.persist(new Member("member1", 10, teamA));
+        em.persist(new Member("member2", 20, teamA));
+        em.persist(new Member("member3", 30, teamB));
+        em.persist(new Member("member4", 40, teamB));
+        em.persist(new Member("member5", 50, teamB));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void searchTest() throws Exception {
+        mockMvc.perform(get("/members/search").param("teamname", "TeamB").param("ageGoe", "35"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].teamName").value("TeamB"));
+    }
+
+    @Test
+    public void exportTest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/members/export").param("teamname", "TeamB"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MemberController.NDJSON))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).endsWith("\n");
+
+        List<String> usernames = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            usernames.add(objectMapper.readTree(line).get("username").asText());
+        }
+        assertThat(usernames).containsExactlyInAnyOrder("member3", "member4", "member5");
+    }
+
+    @Test
+    public void exportEmptyTest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/members/export").param("teamname", "none"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString()).isEmpty();
+    }
+}
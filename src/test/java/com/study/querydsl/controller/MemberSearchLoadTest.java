@@ -0,0 +1,122 @@
+package com.study.querydsl.controller;
+
+import com.study.querydsl.QuerydslApplication;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /members/search 처리량 : virtual thread vs Tomcat 플랫폼 스레드 풀
+ * ./gradlew test -Dperf=true --tests MemberSearchLoadTest (JDK 21 이상)
+ */
+@EnabledIfSystemProperty(named = "perf", matches = "true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class MemberSearchLoadTest {
+
+    // Tomcat 기본 max-threads(200)보다 훨씬 많은 동시 요청
+    private static final int IN_FLIGHT = 2_000;
+    private static final int REQUESTS = 20_000;
+
+    @Test
+    public void virtualVsPlatformThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.println("platform threads : " + platform);
+        System.out.println("virtual threads  : " + virtual);
+
+        assertThat(platform.ok()).isPositive();
+        assertThat(virtual.ok()).isPositive();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuerydslApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "app.n-plus-one.mode=off",
+                        // 조건이 100가지뿐이라 결과 캐시가 켜져 있으면 거의 hit, DB 처리량을 재도록 끈다.
+                        "app.member.search-cache.maximum-size=0",
+                        "decorator.datasource.p6spy.enable-logging=false")
+                .run()) {
+            loadMembers(context);
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            // 워밍업 후 측정
+            fire(port, REQUESTS / 10);
+            return fire(port, REQUESTS);
+        }
+    }
+
+    private void loadMembers(ConfigurableApplicationContext context) {
+        EntityManager em = context.getBean(EntityManager.class);
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            Team teamA = new Team("TeamA");
+            Team teamB = new Team("TeamB");
+            em.persist(teamA);
+            em.persist(teamB);
+            for (int i = 0; i < 1_000; i++) {
+                em.persist(new Member("member" + i, i % 100, i % 2 == 0 ? teamA : teamB));
+            }
+        });
+    }
+
+    private Result fire(int port, int requests) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        Semaphore inFlight = new Semaphore(IN_FLIGHT);
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(
+                    "http://localhost:" + port + "/members/search?teamname=TeamB&ageGoe=" + (i % 100)))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            futures[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        inFlight.release();
+                        if (e != null) {
+                            failed.incrementAndGet();
+                        } else if (response.statusCode() == 200) {
+                            ok.incrementAndGet();
+                        } else if (response.statusCode() == 503) {
+                            rejected.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    });
+        }
+        CompletableFuture.allOf(futures).exceptionally(e -> null).join();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return new Result(ok.get(), rejected.get(), failed.get(), elapsedMillis);
+    }
+
+    private record Result(int ok, int rejected, int failed, long elapsedMillis) {
+        @Override
+        public String toString() {
+            return String.format("ok=%d, 503=%d, failed=%d, %d ms, %.0f req/s",
+                    ok, rejected, failed, elapsedMillis, ok * 1000.0 / elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.study.querydsl.entity;
+
+import com.study.querydsl.repository.MemberJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.study.querydsl.entity.QMember.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Team은 2차 캐시되지만 team.members는 캐시하지 않는다. 세션(트랜잭션) 사이에서 확인하도록 트랜잭션을 직접 커밋한다.
+ */
+@SpringBootTest
+public class TeamMembersCacheTest {
+
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+    @Autowired MemberJpaRepository memberJpaRepository;
+
+    Long teamAId;
+    Long teamBId;
+    Long member1Id;
+
+    @BeforeEach
+    public void before(){
+        tx.executeWithoutResult(status -> {
+            Team teamA = new Team("TeamA");
+            Team teamB = new Team("TeamB");
+            em.persist(teamA);
+            em.persist(teamB);
+            Member member1 = new Member("member1", 10, teamA);
+            em.persist(member1);
+            em.persist(new Member("member2", 20, teamA));
+            em.persist(new Member("member3", 30, teamB));
+            teamAId = teamA.getId();
+            teamBId = teamB.getId();
+            member1Id = member1.getId();
+        });
+        em.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @AfterEach
+    public void after(){
+        tx.executeWithoutResult(status -> {
+            memberJpaRepository.bulkDelete(member.id.isNotNull());
+            em.createQuery("select t from Team t", Team.class).getResultList().forEach(em::remove);
+        });
+    }
+
+    @Test
+    public void changeTeamTest(){
+        // 각각 다른 세션에서 읽어 Team 엔티티 캐시를 채운다.
+        assertThat(memberNames(teamAId)).containsExactlyInAnyOrder("member1", "member2");
+        assertThat(memberNames(teamBId)).containsExactly("member3");
+        assertThat(em.getEntityManagerFactory().getCache().contains(Team.class, teamAId)).isTrue();
+        assertThat(em.getEntityManagerFactory().unwrap(SessionFactory.class).getCache()
+                .containsCollection(Team.class.getName() + ".members", teamAId)).isFalse();
+
+        tx.executeWithoutResult(status -> {
+            Member member1 = em.find(Member.class, member1Id);
+            Team teamA = member1.getTeam();
+            member1.changeTeam(em.find(Team.class, teamBId));
+            // 같은 영속성 컨텍스트에서도 이전 팀에서 빠진다.
+            assertThat(teamA.getMembers()).extracting(Member::getUsername).containsExactly("member2");
+        });
+
+        // 다른 세션 : members는 매번 DB에서 읽으므로 두 팀에 동시에 보이지 않는다.
+        assertThat(memberNames(teamAId)).containsExactly("member2");
+        assertThat(memberNames(teamBId)).containsExactlyInAnyOrder("member1", "member3");
+    }
+
+    private List<String> memberNames(Long teamId) {
+        return tx.execute(status -> em.find(Team.class, teamId).getMembers().stream()
+                .map(Member::getUsername)
+                .toList());
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.querydsl.monitor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void percentile(){
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.count()).isEqualTo(1000);
+        assertThat(histogram.max()).isEqualTo(1000);
+        // 구간 상한값이므로 실제 값보다 크거나 같고, 오차는 1/16 이내
+        assertThat(histogram.percentile(0.5)).isBetween(500L, 500L + 500 / 16);
+        assertThat(histogram.percentile(0.99)).isBetween(990L, 1000L);
+    }
+
+    @Test
+    public void bucketBoundary(){
+        for (long value : new long[]{0, 15, 16, 31, 32, 1_000, 123_456_789L, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.study.querydsl.monitor;
+
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import com.study.querydsl.repository.MemberJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@SpringBootTest(properties = {"app.n-plus-one.mode=fail", "app.n-plus-one.threshold=2"})
+@Transactional
+class NPlusOneDetectorTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    NPlusOneDetector detector;
+
+    @BeforeEach
+    public void before(){
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+        for (int i = 1; i <= 3; i++) {
+            em.persist(new Member("member" + i, i * 10, teamA));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void repeatedStatementFails(){
+        // 회원마다 쿼리 한 번씩 -> 같은 fingerprint 3번 > threshold 2
+        Throwable thrown = catchThrowable(() -> {
+            for (String username : List.of("member1", "member2", "member3")) {
+                memberJpaRepository.findByUsername_querydsl(username);
+            }
+        });
+
+        assertThat(rootCause(thrown)).isInstanceOf(NPlusOneQueryException.class);
+    }
+
+    @Test
+    public void withinThreshold(){
+        try (QueryCountScope scope = detector.open("test")) {
+            memberJpaRepository.findByUsername_querydsl("member1");
+            memberJpaRepository.findByUsername_querydsl("member2");
+
+            assertThat(scope.maxRepeated()).isEqualTo(2);
+            assertThat(scope.violations()).isEmpty();
+        }
+    }
+
+    private static Throwable rootCause(Throwable thrown) {
+        Throwable cause = thrown;
+        while (cause != null && !(cause instanceof NPlusOneQueryException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
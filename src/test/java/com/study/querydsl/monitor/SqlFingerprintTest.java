@@ -0,0 +1,18 @@
+package com.study.querydsl.monitor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlFingerprintTest {
+
+    @Test
+    public void fingerprint(){
+        String a = SqlFingerprint.of("select m1_0.member_id from member m1_0 where m1_0.username='member1' and m1_0.age in (10, 20)");
+        String b = SqlFingerprint.of("select  m1_0.member_id\n from member m1_0 where m1_0.username = ? and m1_0.age in (?,?,?)");
+
+        assertThat(a).isEqualTo("select m1_0.member_id from member m1_0 where m1_0.username=? and m1_0.age in (?+)");
+        assertThat(b).isEqualTo("select m1_0.member_id from member m1_0 where m1_0.username = ? and m1_0.age in (?+)");
+        assertThat(SqlFingerprint.isTableQuery("select nextval('member_seq')")).isFalse();
+    }
+}
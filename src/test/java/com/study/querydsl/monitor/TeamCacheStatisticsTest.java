@@ -0,0 +1,116 @@
+package com.study.querydsl.monitor;
+
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import com.study.querydsl.repository.TeamJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class TeamCacheStatisticsTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    TeamCacheStatistics teamCacheStatistics;
+
+    @Autowired
+    TeamJpaRepository teamJpaRepository;
+
+    @Autowired
+    TransactionTemplate tx;
+
+    boolean statisticsEnabled;
+
+    // 통계는 SessionFactory 전역이고 기본 off (app.jpa.statistics), 이 클래스에서만 켜고 끝나면 되돌린다.
+    @BeforeEach
+    public void enableStatistics(){
+        statisticsEnabled = statistics().isStatisticsEnabled();
+        statistics().setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void restoreStatistics(){
+        statistics().setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Test
+    public void fetchJoinNoWithSecondLevelCache(){
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+        em.persist(new Member("member1", 10, teamA));
+        em.persist(new Member("member2", 20, teamA));
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+
+        // 첫 번째 : team 지연 로딩 -> DB 조회 후 캐시에 적재
+        touchTeams();
+        em.clear();
+
+        long hits = teamCacheStatistics.region(Team.CACHE_REGION).hits();
+
+        // 두 번째 : 영속성 컨텍스트는 비었지만 2차 캐시에서 team을 가져온다
+        touchTeams();
+
+        CacheRegionReport report = teamCacheStatistics.region(Team.CACHE_REGION);
+        assertThat(report.hits()).isGreaterThan(hits);
+        assertThat(report.savedQueries()).isEqualTo(report.hits());
+    }
+
+    // 쓰기 트랜잭션 안에서는 team 테이블이 변경 중이라 쿼리 캐시를 쓰지 않으므로 커밋하며 확인
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void queryCache(){
+        Long teamAId = tx.execute(status -> {
+            Team teamA = new Team("TeamA");
+            em.persist(teamA);
+            return teamA.getId();
+        });
+        em.getEntityManagerFactory().getCache().evictAll();
+        try {
+            // 첫 번째 : DB 조회 후 쿼리 결과(team id)와 Team 엔티티를 캐시에 적재
+            assertThat(teamJpaRepository.findByName("TeamA")).extracting(Team::getId).containsExactly(teamAId);
+            long hits = teamCacheStatistics.queryRegion(Team.QUERY_CACHE_REGION).hits();
+
+            // 두 번째 (다른 세션) : 쿼리 캐시 hit
+            assertThat(teamJpaRepository.findByName("TeamA")).extracting(Team::getName).containsExactly("TeamA");
+            assertThat(teamCacheStatistics.queryRegion(Team.QUERY_CACHE_REGION).hits()).isGreaterThan(hits);
+
+            // team 테이블이 바뀌면 캐시된 결과를 쓰지 않는다.
+            tx.executeWithoutResult(status -> em.persist(new Team("TeamA")));
+            assertThat(teamJpaRepository.findByName("TeamA")).hasSize(2);
+        } finally {
+            tx.executeWithoutResult(status -> em.createQuery("select t from Team t where t.name = 'TeamA'", Team.class)
+                    .getResultList()
+                    .forEach(em::remove));
+        }
+    }
+
+    private void touchTeams() {
+        List<Member> members = em.createQuery("select m from Member m", Member.class).getResultList();
+        for (Member m : members) {
+            assertThat(m.getTeam().getName()).isEqualTo("TeamA");
+        }
+    }
+
+    private Statistics statistics() {
+        return em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,123 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.entity.Member;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.study.querydsl.entity.QMember.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * chunk마다 별도 트랜잭션(REQUIRES_NEW)으로 커밋하므로 테스트 트랜잭션 없이 커밋된 데이터로 확인한다.
+ */
+@SpringBootTest
+public class ChunkedBulkExecutorTest {
+
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+    @Autowired MemberJpaRepository memberJpaRepository;
+
+    @BeforeEach
+    public void before(){
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < 250; i++) {
+                em.persist(new Member("member" + i, i % 50));
+            }
+        });
+    }
+
+    @AfterEach
+    public void after(){
+        tx.executeWithoutResult(status -> memberJpaRepository.bulkDelete(member.id.isNotNull()));
+    }
+
+    @Test
+    public void chunkedDeleteTest(){
+        List<BulkProgress> progress = new ArrayList<>();
+        BulkProgress result = memberJpaRepository.bulkDeleteChunked(member.age.gt(18),
+                BulkChunkOptions.defaults().withChunkSize(40).withListener(progress::add));
+
+        // age 19 ~ 49 : 31 * 5 = 155건, 40건씩 4 chunk
+        assertThat(result.affected()).isEqualTo(155);
+        assertThat(result.chunks()).isEqualTo(4);
+        assertThat(result.finished()).isTrue();
+        assertThat(progress).extracting(BulkProgress::affected).containsExactly(40L, 80L, 120L, 155L);
+        assertThat(count()).isEqualTo(95);
+    }
+
+    @Test
+    public void chunkedUpdateTest(){
+        // 조건 컬럼(age)을 바꾸는 update도 id keyset이라 한 번씩만 적용된다.
+        BulkProgress result = memberJpaRepository.bulkUpdateChunked(member.age.goe(40),
+                update -> update.set(member.age, member.age.add(10)),
+                BulkChunkOptions.defaults().withChunkSize(7).withPause(Duration.ofMillis(1)));
+
+        assertThat(result.affected()).isEqualTo(50);
+        Long over50 = tx.execute(status -> em.createQuery(
+                "select count(m) from Member m where m.age >= 50", Long.class).getSingleResult());
+        assertThat(over50).isEqualTo(50);
+    }
+
+    @Test
+    public void noMatchTest(){
+        BulkProgress result = memberJpaRepository.bulkDeleteChunked(member.age.gt(100), BulkChunkOptions.defaults());
+
+        assertThat(result.chunks()).isZero();
+        assertThat(result.affected()).isZero();
+        assertThat(result.finished()).isTrue();
+    }
+
+    @Test
+    public void concurrentChangeTest() throws Exception {
+        Long movedId = tx.execute(status -> memberJpaRepository.findByUsername("member30").get(0).getId());
+        CountDownLatch updated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 다른 트랜잭션이 age 30 -> 10 으로 바꾸고 (행 잠금) 잠시 뒤 커밋
+            Future<?> writer = executor.submit(() -> tx.executeWithoutResult(status -> {
+                em.find(Member.class, movedId).setAge(10);
+                em.flush();
+                updated.countDown();
+                sleep(500);
+            }));
+            assertThat(updated.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // id 조회(for update)가 writer 커밋을 기다린 뒤 바뀐 age로 다시 평가해서 빠진다.
+            BulkProgress result = memberJpaRepository.bulkDeleteChunked(member.age.gt(18),
+                    BulkChunkOptions.defaults().withChunkSize(40));
+            writer.get(5, TimeUnit.SECONDS);
+
+            assertThat(result.affected()).isEqualTo(154);
+            Integer age = tx.execute(status -> em.find(Member.class, movedId).getAge());
+            assertThat(age).isEqualTo(10);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long count() {
+        return tx.execute(status -> em.createQuery("select count(m) from Member m", Long.class).getSingleResult());
+    }
+}
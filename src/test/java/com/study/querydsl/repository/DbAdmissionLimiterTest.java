@@ -0,0 +1,79 @@
+package com.study.querydsl.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DbAdmissionLimiterTest {
+
+    @Test
+    public void concurrencyBoundedTest() throws Exception {
+        DbAdmissionLimiter limiter = new DbAdmissionLimiter(3, Duration.ofSeconds(10));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        CountDownLatch done = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> {
+                limiter.call(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(2);
+                    return running.decrementAndGet();
+                });
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+        assertThat(limiter.inUse()).isZero();
+    }
+
+    @Test
+    public void timeoutTest() throws Exception {
+        DbAdmissionLimiter limiter = new DbAdmissionLimiter(1, Duration.ofMillis(50));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> limiter.call(() -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        holder.start();
+        holding.await();
+
+        assertThatThrownBy(() -> limiter.call(() -> "never"))
+                .isInstanceOf(DbAdmissionTimeoutException.class);
+
+        release.countDown();
+        holder.join();
+        assertThat(limiter.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
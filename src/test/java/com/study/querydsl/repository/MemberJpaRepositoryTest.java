@@ -1,14 +1,31 @@
 package com.study.querydsl.repository;
 
+import com.study.querydsl.dto.MemberKeysetPage;
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
 import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import static com.study.querydsl.entity.QMember.member;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -20,6 +37,20 @@ public class MemberJpaRepositoryTest {
     EntityManager em;
 
     @Autowired MemberJpaRepository memberJpaRepository;
+    @Autowired MemberSearchQueryCache memberSearchQueryCache;
+
+    boolean statisticsEnabled;
+
+    // 통계는 SessionFactory 전역이고 기본 off (app.jpa.statistics), 공유 컨텍스트의 다음 테스트에 남지 않게 되돌린다.
+    @BeforeEach
+    public void saveStatistics(){
+        statisticsEnabled = statistics().isStatisticsEnabled();
+    }
+
+    @AfterEach
+    public void restoreStatistics(){
+        statistics().setStatisticsEnabled(statisticsEnabled);
+    }
 
     @Test
     public void basicTest(){
@@ -38,4 +69,279 @@ public class MemberJpaRepositoryTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void searchKeysetTest(){
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+
+        em.persist(new Member("member1", 10, teamA));
+        em.persist(new Member("member2", 20, teamA));
+        em.persist(new Member("member3", 20, teamB));
+        em.persist(new Member("member4", 40, teamB));
+        em.persist(new Member("member5", 50, teamB));
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setAgeGoe(20);
+
+        List<String> usernames = new ArrayList<>();
+        MemberKeysetPage page = memberJpaRepository.searchKeyset(condition, null, 2);
+        page.content().forEach(m -> usernames.add(m.getUsername()));
+        while (page.hasNext()) {
+            page = memberJpaRepository.searchKeyset(condition, page.nextCursor(), 2);
+            page.content().forEach(m -> usernames.add(m.getUsername()));
+        }
+
+        // 같은 age(20)는 memberId 순으로 이어진다.
+        assertThat(usernames).containsExactly("member2", "member3", "member4", "member5");
+    }
+
+    @Test
+    public void searchPageTest(){
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+
+        em.persist(new Member("member1", 10, teamA));
+        em.persist(new Member("member2", 20, teamA));
+        em.persist(new Member("member3", 30, teamB));
+        em.persist(new Member("member4", 40, teamB));
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamname("TeamB");
+
+        Page<MemberTeamDto> page = memberJpaRepository.searchPage(new MemberSearchCondition(), PageRequest.of(0, 3));
+        assertThat(page.getContent()).extracting("username").containsExactly("member1", "member2", "member3");
+        assertThat(page.getTotalElements()).isEqualTo(4);
+
+        Page<MemberTeamDto> teamPage = memberJpaRepository.searchPage(condition, PageRequest.of(0, 3));
+        assertThat(teamPage.getContent()).extracting("username").containsExactly("member3", "member4");
+        assertThat(teamPage.getTotalElements()).isEqualTo(2);
+
+        Slice<MemberTeamDto> slice = memberJpaRepository.searchSlice(new MemberSearchCondition(), PageRequest.of(1, 2));
+        assertThat(slice.getContent()).extracting("username").containsExactly("member3", "member4");
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    public void streamTest(){
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+
+        Member member1 = new Member("member1", 10, teamA);
+        Member member2 = new Member("member2", 20, teamA);
+        em.persist(member1);
+        em.persist(member2);
+        em.flush();
+
+        List<MemberTeamDto> rows = new ArrayList<>();
+        memberJpaRepository.searchEach(new MemberSearchCondition(), MemberJpaRepository.DEFAULT_FETCH_SIZE, rows::add);
+        assertThat(rows).extracting("username").containsExactlyInAnyOrder("member1", "member2");
+
+        List<String> usernames = new ArrayList<>();
+        memberJpaRepository.findAllEach(MemberJpaRepository.DEFAULT_FETCH_SIZE, m -> usernames.add(m.getUsername()));
+        assertThat(usernames).containsExactlyInAnyOrder("member1", "member2");
+        // 호출 전부터 managed였던 엔티티는 그대로, 변경도 유지
+        assertThat(em.contains(member1)).isTrue();
+        assertThat(em.contains(member2)).isTrue();
+        member1.setAge(11);
+        em.flush();
+        em.clear();
+        assertThat(em.find(Member.class, member1.getId()).getAge()).isEqualTo(11);
+
+        // 순회 중 새로 로딩된 엔티티는 detach
+        List<Member> loaded = new ArrayList<>();
+        memberJpaRepository.findAllEach(MemberJpaRepository.DEFAULT_FETCH_SIZE, loaded::add);
+        Member loadedMember2 = loaded.stream().filter(m -> m.getUsername().equals("member2")).findFirst().orElseThrow();
+        assertThat(em.contains(loadedMember2)).isFalse();
+    }
+
+    @Test
+    public void saveAllTest(){
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            members.add(new Member("member" + i, i, teamA));
+        }
+        memberJpaRepository.saveAll(members, 100);
+
+        assertThat(em.contains(members.get(0))).isFalse();
+        assertThat(memberJpaRepository.findAll()).hasSize(250);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "perf", matches = "true")
+    public void saveAllThroughputTest(){
+        int total = 1_000_000;
+        Iterable<Member> members = () -> IntStream.range(0, total)
+                .mapToObj(i -> new Member("member" + i, i % 100))
+                .iterator();
+
+        long start = System.nanoTime();
+        memberJpaRepository.saveAll(members);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("saveAll %d members: %d ms (%.0f rows/s)%n",
+                total, elapsedMillis, total * 1000.0 / Math.max(elapsedMillis, 1));
+        Long count = em.createQuery("select count(m) from Member m", Long.class).getSingleResult();
+        assertThat(count).isEqualTo(total);
+    }
+
+    @Test
+    public void searchQueryCacheTest(){
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+
+        em.persist(new Member("member1", 10, teamA));
+        em.persist(new Member("member2", 20, teamA));
+        em.persist(new Member("member3", 30, teamB));
+        em.persist(new Member("member4", 40, teamB));
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamname("TeamB");
+        condition.setAgeGoe(35);
+        assertThat(memberJpaRepository.search(condition)).extracting("username").containsExactly("member4");
+
+        // 같은 shape, 다른 값 -> 캐시 hit
+        long hits = memberSearchQueryCache.hitCount();
+        condition.setTeamname("TeamA");
+        condition.setAgeGoe(15);
+        List<MemberTeamDto> result = memberJpaRepository.search(condition);
+
+        assertThat(result).extracting("username").containsExactly("member2");
+        assertThat(result).extracting("teamName").containsExactly("TeamA");
+        assertThat(memberSearchQueryCache.hitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    public void bulkTest(){
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+
+        em.persist(new Member("member1", 10, teamA));
+        em.persist(new Member("member2", 20, teamA));
+        em.persist(new Member("member3", 30, teamA));
+
+        long updated = memberJpaRepository.bulkUpdate(member.age.lt(28), update -> update.set(member.username, "비회원"));
+        assertThat(updated).isEqualTo(2);
+
+        long deleted = memberJpaRepository.bulkDelete(member.age.gt(18));
+        assertThat(deleted).isEqualTo(2);
+    }
+
+    @Test
+    public void bulkSyncTest(){
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+
+        Member member1 = new Member("member1", 10, teamA);
+        Member member2 = new Member("member2", 20, teamA);
+        Member member3 = new Member("member3", 30, teamA);
+        em.persist(member1);
+        em.persist(member2);
+        em.persist(member3);
+
+        // em.flush(); em.clear() 없이도 영향받은 엔티티만 DB 값으로 다시 로딩된다.
+        memberJpaRepository.bulkUpdate(member.age.lt(28), update -> update.set(member.username, "비회원"));
+        // RELOAD : 이전 참조는 준영속의 이전 값, 다시 얻어야 한다.
+        assertThat(em.contains(member1)).isFalse();
+        assertThat(member1.getUsername()).isEqualTo("member1");
+        member1 = em.find(Member.class, member1.getId());
+        member2 = em.find(Member.class, member2.getId());
+        assertThat(member1.getUsername()).isEqualTo("비회원");
+        assertThat(member2.getUsername()).isEqualTo("비회원");
+        assertThat(teamA.getMembers()).containsExactly(member1, member2, member3);
+        assertThat(member3.getUsername()).isEqualTo("member3");
+        assertThat(em.contains(member3)).isTrue();
+
+        memberJpaRepository.bulkUpdate(member.age.goe(30), update -> update.set(member.age, member.age.add(1)),
+                BulkSyncMode.EVICT);
+        assertThat(em.contains(member3)).isFalse();
+        assertThat(em.find(Member.class, member3.getId()).getAge()).isEqualTo(31);
+
+        memberJpaRepository.bulkDelete(member.age.gt(18));
+        assertThat(em.contains(member2)).isFalse();
+        assertThat(teamA.getMembers()).contains(member1).doesNotContain(member2);
+        assertThat(em.contains(member1)).isTrue();
+        assertThat(em.find(Member.class, member2.getId())).isNull();
+    }
+
+    @Test
+    public void readOnlyModeTest(){
+        em.persist(new Member("member1", 10));
+        em.persist(new Member("member2", 20));
+        em.flush();
+        em.clear();
+
+        Session session = em.unwrap(Session.class);
+        List<Member> readOnly = memberJpaRepository.findAll_querydsl(EntityReadMode.READ_ONLY);
+        assertThat(readOnly).hasSize(2).allMatch(session::isReadOnly);
+
+        // 읽기 전용 엔티티는 변경 감지 대상이 아니다.
+        readOnly.forEach(m -> m.setAge(99));
+        em.flush();
+        em.clear();
+
+        List<Member> managed = memberJpaRepository.findByUsername_querydsl("member1", EntityReadMode.MANAGED);
+        assertThat(managed).extracting(Member::getAge).containsExactly(10);
+        assertThat(session.isReadOnly(managed.get(0))).isFalse();
+
+        assertThat(memberJpaRepository.findByUsername_querydsl("member2", EntityReadMode.READ_ONLY))
+                .allMatch(session::isReadOnly);
+        assertThat(memberJpaRepository.findAll(EntityReadMode.READ_ONLY))
+                .extracting(Member::getAge).containsExactlyInAnyOrder(10, 20);
+    }
+
+    @Test
+    public void findAllByIdTest(){
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            Member m = new Member("member" + i, i);
+            em.persist(m);
+            ids.add(m.getId());
+        }
+        em.flush();
+        em.clear();
+
+        Member loaded = em.find(Member.class, ids.get(10));   // 영속성 컨텍스트에 있는 것
+        em.remove(em.find(Member.class, ids.get(20)));         // 삭제 예정
+
+        List<Long> request = new ArrayList<>(ids);
+        Collections.reverse(request);
+        request.add(1, -1L);          // 없는 id
+        request.add(ids.get(10));     // 중복
+
+        Statistics statistics = statistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        List<Member> result = memberJpaRepository.findAllById(request);
+
+        // 영속성 컨텍스트의 2건을 뺀 249건 -> IN 100, 100, 64(49건 + padding)
+        // 삭제 예정 delete는 조회 전 auto flush
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+
+        List<Long> expected = new ArrayList<>(ids);
+        Collections.reverse(expected);
+        expected.remove(ids.get(20));
+        assertThat(result).extracting(Member::getId).containsExactlyElementsOf(expected);
+        assertThat(result).filteredOn(m -> m.getId().equals(ids.get(10))).singleElement().isSameAs(loaded);
+
+        // 이제 전부 영속성 컨텍스트에 있으므로 select 없음
+        statistics.clear();
+        assertThat(memberJpaRepository.findAllById(List.of(ids.get(1), ids.get(0)))).extracting(Member::getUsername)
+                .containsExactly("member1", "member0");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(memberJpaRepository.findAllById(List.of())).isEmpty();
+    }
+
+    private Statistics statistics() {
+        return em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
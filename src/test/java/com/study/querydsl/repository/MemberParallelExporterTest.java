@@ -0,0 +1,102 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.dto.MemberIdRange;
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.study.querydsl.entity.QMember.member;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파티션은 각자 다른 트랜잭션에서 읽으므로 테스트 트랜잭션(@Transactional) 없이 커밋된 데이터로 확인한다.
+ */
+@SpringBootTest
+public class MemberParallelExporterTest {
+
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+    @Autowired MemberParallelExporter memberParallelExporter;
+    @Autowired MemberJpaRepository memberJpaRepository;
+
+    @BeforeEach
+    public void before(){
+        tx.executeWithoutResult(status -> {
+            Team teamA = new Team("TeamA");
+            Team teamB = new Team("TeamB");
+            em.persist(teamA);
+            em.persist(teamB);
+            for (int i = 0; i < 2_000; i++) {
+                em.persist(new Member("member" + i, i % 100, i % 2 == 0 ? teamA : teamB));
+            }
+        });
+    }
+
+    @AfterEach
+    public void after(){
+        // 캐시 무효화를 거치도록 bulkDelete, em.remove로 지운다.
+        tx.executeWithoutResult(status -> {
+            memberJpaRepository.bulkDelete(member.id.isNotNull());
+            em.createQuery("select t from Team t", Team.class).getResultList().forEach(em::remove);
+        });
+    }
+
+    @Test
+    public void orderedTest(){
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamname("TeamB");
+        condition.setAgeGoe(50);
+
+        List<MemberTeamDto> expected = new ArrayList<>(tx.execute(status -> memberJpaRepository.search(condition)));
+        expected.sort(Comparator.comparing(MemberTeamDto::getMemberId));
+
+        List<MemberTeamDto> result = new ArrayList<>();
+        long rows = memberParallelExporter.export(condition, 4, true, result::add);
+
+        assertThat(rows).isEqualTo(expected.size());
+        assertThat(result).extracting(MemberTeamDto::getMemberId)
+                .containsExactlyElementsOf(expected.stream().map(MemberTeamDto::getMemberId).toList());
+    }
+
+    @Test
+    public void unorderedTest(){
+        List<MemberTeamDto> result = new ArrayList<>();
+        long rows = memberParallelExporter.export(new MemberSearchCondition(), 3, false, result::add);
+
+        assertThat(rows).isEqualTo(2_000);
+        assertThat(result).extracting(MemberTeamDto::getMemberId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void sinkFailureTest(){
+        assertThatThrownBy(() -> memberParallelExporter.export(new MemberSearchCondition(), 4, false, dto -> {
+            throw new IllegalStateException("sink");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("sink");
+
+        // 취소된 파티션이 permit을 모두 반납해야 다음 export가 진행된다.
+        List<MemberTeamDto> result = new ArrayList<>();
+        memberParallelExporter.export(new MemberSearchCondition(), 4, true, result::add);
+        assertThat(result).hasSize(2_000);
+    }
+
+    @Test
+    public void splitTest(){
+        List<MemberIdRange> ranges = new MemberIdRange(1, 11).split(3);
+        assertThat(ranges).containsExactly(
+                new MemberIdRange(1, 4), new MemberIdRange(4, 7), new MemberIdRange(7, 11));
+        assertThat(MemberIdRange.closed(5, 5).split(4)).containsExactly(new MemberIdRange(5, 6));
+    }
+}
@@ -0,0 +1,72 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.dto.MemberSearchCondition;
+import com.study.querydsl.dto.MemberTeamDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberSearchCacheTest {
+
+    MemberSearchCache cache = new MemberSearchCache(Duration.ofMinutes(1), 100);
+    AtomicInteger loads = new AtomicInteger();
+
+    List<MemberTeamDto> load(MemberSearchCondition condition) {
+        loads.incrementAndGet();
+        return List.of(new MemberTeamDto(1L, "member1", 10, 1L, condition.getTeamname()));
+    }
+
+    @Test
+    public void hitAndInvalidate(){
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamname("TeamA");
+
+        cache.get(condition, this::load);
+        cache.get(condition, this::load);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+
+        // 빈 문자열 조건은 조건 없음과 같은 키
+        MemberSearchCondition blank = new MemberSearchCondition();
+        blank.setTeamname("TeamA");
+        blank.setUsername("");
+        cache.get(blank, this::load);
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.invalidateAll();
+        cache.get(condition, this::load);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidatedWhileLoading(){
+        MemberSearchCondition condition = new MemberSearchCondition();
+
+        // 로딩 도중 무효화되면 그 결과는 캐시에 넣지 않는다.
+        cache.get(condition, c -> {
+            cache.invalidateAll();
+            return load(c);
+        });
+        cache.get(condition, this::load);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void callerChangesDoNotLeakIntoCache(){
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamname("TeamA");
+
+        // miss에서 받은 DTO, hit에서 받은 DTO 모두 고쳐도 캐시된 값은 그대로
+        cache.get(condition, this::load).get(0).setUsername("changed");
+        List<MemberTeamDto> hit = cache.get(condition, this::load);
+        assertThat(hit).extracting(MemberTeamDto::getUsername).containsExactly("member1");
+        hit.get(0).setUsername("changed");
+
+        assertThat(cache.get(condition, this::load)).extracting(MemberTeamDto::getUsername).containsExactly("member1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+}
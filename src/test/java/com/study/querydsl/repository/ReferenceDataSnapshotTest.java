@@ -0,0 +1,179 @@
+package com.study.querydsl.repository;
+
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.MemberTeamDto;
+import com.study.querydsl.dto.TeamDto;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷은 커밋된 변경만 반영하므로 테스트 트랜잭션 없이 트랜잭션을 직접 커밋하며 확인한다.
+ */
+@SpringBootTest
+public class ReferenceDataSnapshotTest {
+
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+    @Autowired ReferenceDataSnapshot referenceDataSnapshot;
+    @Autowired MemberJpaRepository memberJpaRepository;
+    @Autowired JPAQueryFactory queryFactory;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    Long teamAId;
+    Long teamBId;
+
+    @BeforeEach
+    public void before(){
+        tx.executeWithoutResult(status -> {
+            Team teamA = new Team("TeamA");
+            Team teamB = new Team("TeamB");
+            em.persist(teamA);
+            em.persist(teamB);
+            em.persist(new Member("member1", 10, teamA));
+            em.persist(new Member("member2", 20, teamA));
+            em.persist(new Member("member3", 30, teamB));
+            em.persist(new Member("member4", 40, teamB));
+            teamAId = teamA.getId();
+            teamBId = teamB.getId();
+        });
+        referenceDataSnapshot.invalidate();
+    }
+
+    @AfterEach
+    public void after(){
+        // 캐시 무효화를 거치도록 bulkDelete, em.remove로 지운다.
+        tx.executeWithoutResult(status -> {
+            memberJpaRepository.bulkDelete(member.id.isNotNull());
+            em.createQuery("select t from Team t", Team.class).getResultList().forEach(em::remove);
+        });
+    }
+
+    @Test
+    public void inMemoryTest(){
+        long fallbacks = referenceDataSnapshot.fallbackCount();
+
+        List<MemberTeamDto> result = referenceDataSnapshot.findMembers(
+                member.age.goe(20).and(team.name.eq("TeamB")), member.age.desc());
+        assertThat(result).extracting(MemberTeamDto::getUsername).containsExactly("member4", "member3");
+        assertThat(result).allMatch(dto -> dto.getTeamId().equals(teamBId));
+
+        NumberExpression<Integer> rankPath = new CaseBuilder()
+                .when(member.age.between(0, 20)).then(2)
+                .when(member.age.between(21, 30)).then(1)
+                .otherwise(3);
+        assertThat(referenceDataSnapshot.selectMembers(rankPath, null, rankPath.desc()))
+                .containsExactly(3, 2, 2, 1);
+
+        assertThat(referenceDataSnapshot.findTeams(team.name.eq("TeamA")))
+                .containsExactly(new TeamDto(teamAId, "TeamA"));
+        assertThat(referenceDataSnapshot.findTeam(teamBId)).contains(new TeamDto(teamBId, "TeamB"));
+
+        assertThat(referenceDataSnapshot.fallbackCount()).isEqualTo(fallbacks);
+    }
+
+    @Test
+    public void fallbackTest(){
+        long fallbacks = referenceDataSnapshot.fallbackCount();
+
+        // 문자열 정렬, like는 SQL로
+        assertThat(referenceDataSnapshot.findMembers(member.username.like("member%"), member.username.desc()))
+                .extracting(MemberTeamDto::getUsername)
+                .containsExactly("member4", "member3", "member2", "member1");
+
+        assertThat(referenceDataSnapshot.fallbackCount()).isEqualTo(fallbacks + 1);
+    }
+
+    @Test
+    public void incrementalTest(){
+        assertThat(referenceDataSnapshot.findMembers(team.name.eq("TeamA"))).hasSize(2);
+
+        // insert, update(나이, 팀 이동), delete, 팀 이름 변경
+        tx.executeWithoutResult(status -> {
+            em.persist(new Member("member5", 50, em.find(Team.class, teamAId)));
+            Member member1 = findByUsername("member1");
+            member1.setAge(11);
+            member1.changeTeam(em.find(Team.class, teamBId));
+            em.remove(findByUsername("member4"));
+            em.find(Team.class, teamBId).setName("TeamB2");
+        });
+
+        assertThat(referenceDataSnapshot.findMembers(team.name.eq("TeamA")))
+                .extracting(MemberTeamDto::getUsername).containsExactly("member2", "member5");
+        assertThat(referenceDataSnapshot.findMembers(team.name.eq("TeamB2"), member.age.asc()))
+                .extracting(MemberTeamDto::getUsername, MemberTeamDto::getAge)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple("member1", 11),
+                        org.assertj.core.groups.Tuple.tuple("member3", 30));
+        assertThat(referenceDataSnapshot.findTeams(team.name.eq("TeamB"))).isEmpty();
+    }
+
+    @Test
+    public void rollbackTest(){
+        assertThat(referenceDataSnapshot.findMembers(member.age.goe(40))).hasSize(1);
+
+        tx.executeWithoutResult(status -> {
+            findByUsername("member1").setAge(99);
+            em.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(referenceDataSnapshot.findMembers(member.age.goe(40)))
+                .extracting(MemberTeamDto::getUsername).containsExactly("member4");
+    }
+
+    @Test
+    public void bulkTest(){
+        assertThat(referenceDataSnapshot.findMembers(member.age.goe(40))).hasSize(1);
+
+        // 벌크 HQL은 이벤트가 없으므로 전체 무효화
+        tx.executeWithoutResult(status -> memberJpaRepository.bulkUpdate(member.age.lt(30),
+                update -> update.set(member.age, member.age.add(100))));
+
+        assertThat(referenceDataSnapshot.findMembers(member.age.goe(40)))
+                .extracting(MemberTeamDto::getUsername).containsExactly("member1", "member2", "member4");
+    }
+
+    @Test
+    public void maxMembersTest(){
+        // 한도 3명, 이벤트는 빈으로 등록된 스냅샷에만 오므로 memberChanged를 직접 호출
+        ReferenceDataSnapshot limited = new ReferenceDataSnapshot(queryFactory, transactionManager, 3, Duration.ZERO);
+        assertThat(limited.findMembers(member.age.goe(30))).hasSize(2);
+        assertThat(limited.fallbackCount()).isEqualTo(1);
+
+        Long member4Id = tx.execute(status -> {
+            Member member4 = findByUsername("member4");
+            em.remove(member4);
+            return member4.getId();
+        });
+        limited.memberChanged(member4Id);
+
+        // 한도 아래로 내려가면 다시 스냅샷
+        assertThat(limited.findMembers(member.age.goe(30)))
+                .extracting(MemberTeamDto::getUsername).containsExactly("member3");
+        assertThat(limited.hitCount()).isEqualTo(1);
+        assertThat(limited.fallbackCount()).isEqualTo(1);
+    }
+
+    private Member findByUsername(String username) {
+        return em.createQuery("select m from Member m where m.username = :username", Member.class)
+                .setParameter("username", username)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,22 @@
+package com.study.querydsl.repository;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+// 엔티티 @Index로 만든 스키마를 in-memory H2에서 EXPLAIN
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-plan;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@Transactional
+@Import(SearchPlanTestSupport.SqlCapture.class)
+public class SearchPlanH2Test extends SearchPlanTestSupport {
+
+    @Override
+    PlanDialect dialect() {
+        return PlanDialect.H2;
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.querydsl.repository;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+// application.yml의 datasource가 PostgreSQL일 때만 실행된다.
+@SpringBootTest
+@Transactional
+@Import(SearchPlanTestSupport.SqlCapture.class)
+public class SearchPlanPostgresTest extends SearchPlanTestSupport {
+
+    @Override
+    PlanDialect dialect() {
+        return PlanDialect.POSTGRESQL;
+    }
+}
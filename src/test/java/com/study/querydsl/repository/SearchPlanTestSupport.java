@@ -0,0 +1,164 @@
+package com.study.querydsl.repository;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.study.querydsl.dto.MemberSearchCondition;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * search 조건 16개 조합마다 실제 실행된 SQL을 p6spy로 잡아 EXPLAIN 하고,
+ * 조건이 하나라도 있는데 member/team을 full scan 하는 조합이 있으면 실패한다.
+ * 조건이 없는 조합(shape 0)은 원래 전체를 읽으므로 제외.
+ * 하위 클래스는 @SpringBootTest, @Transactional, @Import(SqlCapture.class)를 붙인다.
+ */
+abstract class SearchPlanTestSupport {
+
+    // MemberSearchQueryCache와 같은 비트 순서
+    private static final int USERNAME = 1;
+    private static final int TEAMNAME = 1 << 1;
+    private static final int AGE_GOE = 1 << 2;
+    private static final int AGE_LOE = 1 << 3;
+    private static final int SHAPES = 1 << 4;
+
+    @Autowired
+    MemberSearchQueryCache memberSearchQueryCache;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    SqlCapture sqlCapture;
+
+    /**
+     * 이 테스트가 검사할 DB, 연결된 DB가 다르면 건너뛴다.
+     */
+    abstract PlanDialect dialect();
+
+    @Test
+    public void everyConditionShapeUsesIndex(){
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        assumeTrue(dialect().product.equalsIgnoreCase(product), "connected to " + product);
+        dialect().prepare(jdbcTemplate);
+
+        List<String> fullScans = new ArrayList<>();
+        for (int shape = 1; shape < SHAPES; shape++) {
+            String sql = captureSql(condition(shape));
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            if (plan.contains(dialect().fullScanMarker)) {
+                fullScans.add(describe(shape) + "\n" + plan);
+            }
+        }
+
+        assertThat(fullScans).isEmpty();
+    }
+
+    private String captureSql(MemberSearchCondition condition) {
+        sqlCapture.start();
+        try {
+            memberSearchQueryCache.search(condition);
+        } finally {
+            sqlCapture.stop();
+        }
+        assertThat(sqlCapture.captured()).hasSize(1);
+        return sqlCapture.captured().get(0);
+    }
+
+    private static MemberSearchCondition condition(int shape) {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        if ((shape & USERNAME) != 0) {
+            condition.setUsername("member1");
+        }
+        if ((shape & TEAMNAME) != 0) {
+            condition.setTeamname("teamA");
+        }
+        if ((shape & AGE_GOE) != 0) {
+            condition.setAgeGoe(20);
+        }
+        if ((shape & AGE_LOE) != 0) {
+            condition.setAgeLoe(40);
+        }
+        return condition;
+    }
+
+    private static String describe(int shape) {
+        List<String> names = new ArrayList<>();
+        if ((shape & USERNAME) != 0) {
+            names.add("username");
+        }
+        if ((shape & TEAMNAME) != 0) {
+            names.add("teamname");
+        }
+        if ((shape & AGE_GOE) != 0) {
+            names.add("ageGoe");
+        }
+        if ((shape & AGE_LOE) != 0) {
+            names.add("ageLoe");
+        }
+        return "shape " + shape + " " + names;
+    }
+
+    enum PlanDialect {
+        // 인덱스를 못 쓰면 /* PUBLIC.MEMBER.tableScan */
+        H2("H2", ".tableScan"),
+        POSTGRESQL("PostgreSQL", "Seq Scan on ") {
+            @Override
+            void prepare(JdbcTemplate jdbcTemplate) {
+                // 테스트 데이터 규모에서는 인덱스가 있어도 seq scan이 더 싸게 나온다.
+                // seq scan을 꺼 두면 쓸 수 있는 인덱스가 없을 때만 seq scan이 남는다. (현재 트랜잭션에만 적용)
+                jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            }
+        };
+
+        private final String product;
+        private final String fullScanMarker;
+
+        PlanDialect(String product, String fullScanMarker) {
+            this.product = product;
+            this.fullScanMarker = fullScanMarker;
+        }
+
+        void prepare(JdbcTemplate jdbcTemplate) {
+        }
+    }
+
+    /**
+     * start ~ stop 사이에 현재 스레드에서 실행된 SQL을 바인딩 값이 채워진 형태로 모은다.
+     * 빈으로 등록되면 p6spy가 리스너로 붙인다.
+     */
+    static class SqlCapture extends SimpleJdbcEventListener {
+
+        private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+        void start() {
+            captured.set(new ArrayList<>());
+        }
+
+        List<String> captured() {
+            List<String> sqls = captured.get();
+            return sqls != null ? sqls : List.of();
+        }
+
+        void stop() {
+            // captured()로 읽을 수 있도록 다음 start까지 남겨 두고, 더 쌓이지 않게만 막는다.
+            captured.set(List.copyOf(captured()));
+        }
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            List<String> sqls = captured.get();
+            if (sqls instanceof ArrayList<String> recording && e == null) {
+                recording.add(statementInformation.getSqlWithValues());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+public class TeamJpaRepositoryTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired TeamJpaRepository teamJpaRepository;
+
+    List<Long> teamIds = new ArrayList<>();
+    boolean statisticsEnabled;
+
+    // 통계는 SessionFactory 전역이고 기본 off (app.jpa.statistics), 공유 컨텍스트의 다음 테스트에 남지 않게 되돌린다.
+    @BeforeEach
+    public void saveStatistics(){
+        statisticsEnabled = statistics().isStatisticsEnabled();
+    }
+
+    @AfterEach
+    public void restoreStatistics(){
+        statistics().setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @BeforeEach
+    public void before(){
+        for (int t = 0; t < 5; t++) {
+            Team team = new Team("Team" + t);
+            em.persist(team);
+            teamIds.add(team.getId());
+            for (int m = 0; m < 3; m++) {
+                em.persist(new Member("member" + t + "_" + m, m * 10, team));
+            }
+        }
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    public void sliceWithMembersTest(){
+        Statistics statistics = statistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Slice<Team> slice = teamJpaRepository.findSliceWithMembers(PageRequest.of(0, 4));
+
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.getContent()).extracting(Team::getId).containsExactlyElementsOf(teamIds.subList(0, 4));
+        for (Team team : slice.getContent()) {
+            assertThat(Hibernate.isInitialized(team.getMembers())).isTrue();
+            assertThat(team.getMembers()).hasSize(3);
+            for (Member member : team.getMembers()) {
+                assertThat(member.getTeam().getName()).isEqualTo(team.getName());
+            }
+        }
+
+        // id 페이지 1번 + team/members 1번, 페이지 크기와 무관
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void lastSliceTest(){
+        Slice<Team> slice = teamJpaRepository.findSliceWithMembers(PageRequest.of(1, 4));
+
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.getContent()).extracting(Team::getId).containsExactly(teamIds.get(4));
+    }
+
+    @Test
+    public void findAllWithMembersTest(){
+        // 요청 순서 유지, 없는 id는 제외
+        List<Long> ids = List.of(teamIds.get(3), -1L, teamIds.get(1));
+
+        List<Team> teams = teamJpaRepository.findAllWithMembers(ids);
+
+        assertThat(teams).extracting(Team::getId).containsExactly(teamIds.get(3), teamIds.get(1));
+    }
+
+    private Statistics statistics() {
+        return em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,143 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.dto.TeamStats;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.study.querydsl.entity.QMember.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집계는 커밋된 변경만 반영하므로 테스트 트랜잭션 없이 트랜잭션을 직접 커밋/롤백하며 확인한다.
+ */
+@SpringBootTest
+public class TeamStatsCacheTest {
+
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired TeamStatsCache teamStatsCache;
+    @Autowired MemberJpaRepository memberJpaRepository;
+
+    Long teamAId;
+    Long teamBId;
+
+    @BeforeEach
+    public void before(){
+        tx.executeWithoutResult(status -> {
+            Team teamA = new Team("TeamA");
+            Team teamB = new Team("TeamB");
+            em.persist(teamA);
+            em.persist(teamB);
+            em.persist(new Member("member1", 10, teamA));
+            em.persist(new Member("member2", 20, teamA));
+            em.persist(new Member("member3", 30, teamB));
+            em.persist(new Member("member4", 40, teamB));
+            teamAId = teamA.getId();
+            teamBId = teamB.getId();
+        });
+        teamStatsCache.invalidate();
+    }
+
+    @AfterEach
+    public void after(){
+        // 캐시 무효화를 거치도록 bulkDelete, em.remove로 지운다.
+        tx.executeWithoutResult(status -> {
+            memberJpaRepository.bulkDelete(member.id.isNotNull());
+            em.createQuery("select t from Team t", Team.class).getResultList().forEach(em::remove);
+        });
+    }
+
+    @Test
+    public void incrementalTest(){
+        assertThat(teamStatsCache.get(teamAId)).isEqualTo(new TeamStats(teamAId, 2, 30, 10, 20));
+        assertThat(teamStatsCache.get(teamAId).ageAvg()).isEqualTo(15.0);
+        assertThat(teamStatsCache.isStale()).isFalse();
+
+        // save
+        tx.executeWithoutResult(status -> em.persist(new Member("member5", 5, em.find(Team.class, teamAId))));
+        assertThat(teamStatsCache.get(teamAId)).isEqualTo(new TeamStats(teamAId, 3, 35, 5, 20));
+
+        // changeTeam : A -> B
+        tx.executeWithoutResult(status -> findByUsername("member2").changeTeam(em.find(Team.class, teamBId)));
+        assertThat(teamStatsCache.get(teamAId)).isEqualTo(new TeamStats(teamAId, 2, 15, 5, 10));
+        assertThat(teamStatsCache.get(teamBId)).isEqualTo(new TeamStats(teamBId, 3, 90, 20, 40));
+
+        // 최대 나이 회원 삭제
+        tx.executeWithoutResult(status -> em.remove(findByUsername("member4")));
+        assertThat(teamStatsCache.get(teamBId)).isEqualTo(new TeamStats(teamBId, 2, 50, 20, 30));
+
+        // 다시 스캔하지 않고 변경분만 반영됐다.
+        assertThat(teamStatsCache.isStale()).isFalse();
+    }
+
+    @Test
+    public void rollbackTest(){
+        TeamStats before = teamStatsCache.get(teamBId);
+
+        tx.executeWithoutResult(status -> {
+            findByUsername("member3").setAge(99);
+            em.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(teamStatsCache.get(teamBId)).isEqualTo(before);
+    }
+
+    @Test
+    public void innerTransactionTest(){
+        teamStatsCache.get(teamAId);
+        TeamStats teamB = teamStatsCache.get(teamBId);
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 바깥은 롤백, 안쪽 REQUIRES_NEW는 커밋 -> 안쪽 변경분만 반영
+        tx.executeWithoutResult(status -> {
+            findByUsername("member3").setAge(99);
+            em.flush();
+            requiresNew.executeWithoutResult(inner ->
+                    em.persist(new Member("member5", 5, em.find(Team.class, teamAId))));
+            status.setRollbackOnly();
+        });
+
+        assertThat(teamStatsCache.get(teamAId)).isEqualTo(new TeamStats(teamAId, 3, 35, 5, 20));
+        assertThat(teamStatsCache.get(teamBId)).isEqualTo(teamB);
+        assertThat(teamStatsCache.isStale()).isFalse();
+    }
+
+    @Test
+    public void bulkTest(){
+        teamStatsCache.get(teamBId);
+
+        tx.executeWithoutResult(status -> memberJpaRepository.bulkDelete(member.age.goe(40)));
+        assertThat(teamStatsCache.isStale()).isTrue();
+
+        assertThat(teamStatsCache.get(teamBId)).isEqualTo(new TeamStats(teamBId, 1, 30, 30, 30));
+    }
+
+    @Test
+    public void emptyTeamTest(){
+        tx.executeWithoutResult(status -> em.createQuery("delete from Member m where m.team.id = :teamId")
+                .setParameter("teamId", teamAId)
+                .executeUpdate());
+        teamStatsCache.invalidate();
+
+        assertThat(teamStatsCache.get(teamAId)).isEqualTo(TeamStats.empty(teamAId));
+        assertThat(teamStatsCache.getAll()).containsOnlyKeys(teamBId);
+    }
+
+    private Member findByUsername(String username) {
+        return em.createQuery("select m from Member m where m.username = :username", Member.class)
+                .setParameter("username", username)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,140 @@
+package com.study.querydsl.repository;
+
+import com.study.querydsl.dto.UsernameSuggestion;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.monitor.UsernameIndexStats;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.study.querydsl.entity.QMember.member;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인덱스는 커밋된 변경만 반영하므로 테스트 트랜잭션 없이 직접 커밋하며 확인한다.
+ * merge-threshold를 작게 두어 delta 병합도 함께 확인.
+ */
+@SpringBootTest(properties = "app.username-index.merge-threshold=4")
+public class UsernamePrefixIndexTest {
+
+    @Autowired EntityManager em;
+    @Autowired TransactionTemplate tx;
+    @Autowired UsernamePrefixIndex usernamePrefixIndex;
+    @Autowired MemberJpaRepository memberJpaRepository;
+
+    @BeforeEach
+    public void before(){
+        tx.executeWithoutResult(status -> {
+            em.persist(new Member("member10", 10));
+            em.persist(new Member("member2", 20));
+            em.persist(new Member("member1", 30));
+            em.persist(new Member("Member3", 40));
+            em.persist(new Member("김철수", 50));
+            em.persist(new Member("김영희", 60));
+        });
+        usernamePrefixIndex.invalidate();
+    }
+
+    @AfterEach
+    public void after(){
+        tx.executeWithoutResult(status -> memberJpaRepository.bulkDelete(member.id.isNotNull()));
+        usernamePrefixIndex.invalidate();
+    }
+
+    @Test
+    public void suggestTest(){
+        assertThat(names("member", 10)).containsExactly("member1", "member10", "member2");
+        assertThat(names("member", 2)).containsExactly("member1", "member10");
+        assertThat(names("Member", 10)).containsExactly("Member3"); // 대소문자 구분
+        assertThat(names("김", 10)).containsExactly("김영희", "김철수");
+        assertThat(names("nobody", 10)).isEmpty();
+        assertThat(names("", 3)).hasSize(3);
+        assertThat(usernamePrefixIndex.suggest("member", 0)).isEmpty();
+
+        UsernameIndexStats stats = usernamePrefixIndex.stats();
+        assertThat(stats.ready()).isTrue();
+        assertThat(stats.baseEntries()).isEqualTo(6);
+        assertThat(stats.deltaEntries()).isZero();
+        assertThat(stats.estimatedBytes()).isPositive();
+    }
+
+    @Test
+    public void committedChangeTest(){
+        names("member", 10); // 인덱스 생성
+        long builds = usernamePrefixIndex.stats().builds();
+
+        Long member2Id = tx.execute(status -> {
+            Member member2 = memberJpaRepository.findByUsername("member2").get(0);
+            member2.setUsername("newbie2");                                       // update
+            memberJpaRepository.findByUsername("member10").get(0).setAge(11);     // username 그대로
+            em.remove(memberJpaRepository.findByUsername("member1").get(0));      // delete
+            em.persist(new Member("member0", 0));                                 // insert
+            return member2.getId();
+        });
+
+        assertThat(names("member", 10)).containsExactly("member0", "member10");
+        assertThat(usernamePrefixIndex.suggest("new", 10))
+                .containsExactly(new UsernameSuggestion(member2Id, "newbie2"));
+        assertThat(usernamePrefixIndex.stats().builds()).isEqualTo(builds); // 다시 스캔하지 않음
+    }
+
+    @Test
+    public void rollbackTest(){
+        names("member", 10);
+
+        tx.executeWithoutResult(status -> {
+            memberJpaRepository.findByUsername("member2").get(0).setUsername("rolledBack");
+            em.persist(new Member("member99", 0));
+            em.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(names("member", 10)).containsExactly("member1", "member10", "member2");
+        assertThat(names("rolled", 10)).isEmpty();
+    }
+
+    @Test
+    public void compactionTest(){
+        names("member", 10);
+        long compactions = usernamePrefixIndex.stats().compactions();
+
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < 5; i++) {
+                em.persist(new Member("member5" + i, i));
+            }
+        });
+
+        UsernameIndexStats stats = usernamePrefixIndex.stats();
+        assertThat(stats.compactions()).isGreaterThan(compactions);
+        assertThat(stats.baseEntries() + stats.deltaEntries()).isEqualTo(11);
+        assertThat(names("member5", 10)).containsExactly("member50", "member51", "member52", "member53", "member54");
+        assertThat(names("member", 3)).containsExactly("member1", "member10", "member2");
+    }
+
+    @Test
+    public void bulkTest(){
+        names("member", 10);
+        long builds = usernamePrefixIndex.stats().builds();
+
+        // 벌크 HQL은 이벤트가 없으므로 커밋 후 전체 무효화, 다음 조회 때 다시 스캔
+        tx.executeWithoutResult(status -> memberJpaRepository.bulkUpdate(member.username.startsWith("member1"),
+                update -> update.set(member.username, "bulk")));
+
+        assertThat(usernamePrefixIndex.stats().ready()).isFalse();
+        assertThat(names("member", 10)).containsExactly("member2");
+        assertThat(names("bulk", 10)).containsExactly("bulk", "bulk");
+        assertThat(usernamePrefixIndex.stats().builds()).isEqualTo(builds + 1);
+    }
+
+    private List<String> names(String prefix, int limit) {
+        return usernamePrefixIndex.suggest(prefix, limit).stream()
+                .map(UsernameSuggestion::username)
+                .toList();
+    }
+}
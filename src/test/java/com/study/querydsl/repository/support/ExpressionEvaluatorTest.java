@@ -0,0 +1,78 @@
+package com.study.querydsl.repository.support;
+
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.study.querydsl.dto.MemberTeamDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExpressionEvaluatorTest {
+
+    ExpressionEvaluator<MemberTeamDto> evaluator = new ExpressionEvaluator<>(Map.<Path<?>, Function<MemberTeamDto, ?>>of(
+            member.id, MemberTeamDto::getMemberId,
+            member.username, MemberTeamDto::getUsername,
+            member.age, MemberTeamDto::getAge,
+            team.name, MemberTeamDto::getTeamName
+    ));
+
+    List<MemberTeamDto> rows = List.of(
+            new MemberTeamDto(1L, "member1", 10, 1L, "TeamA"),
+            new MemberTeamDto(2L, "member2", 25, 1L, "TeamA"),
+            new MemberTeamDto(3L, "member3", 30, 2L, "TeamB"),
+            new MemberTeamDto(4L, "member4", 40, null, null)
+    );
+
+    @Test
+    public void predicateTest(){
+        assertThat(filter(member.age.between(20, 30).and(team.name.eq("TeamA")))).containsExactly(2L);
+        assertThat(filter(member.age.lt(15).or(member.username.in("member3", "member4")))).containsExactly(1L, 3L, 4L);
+        assertThat(filter(member.username.startsWith("member").and(member.id.goe(3L)))).containsExactly(3L, 4L);
+        assertThat(filter(team.name.isNull())).containsExactly(4L);
+        assertThat(filter(null)).hasSize(4);
+    }
+
+    @Test
+    public void nullIsUnknownTest(){
+        // SQL처럼 팀이 없는 회원은 team.name <> 'TeamA' 도, 그 부정도 만족하지 않는다.
+        assertThat(filter(team.name.ne("TeamA"))).containsExactly(3L);
+        assertThat(filter(team.name.ne("TeamA").not())).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void caseBuilderTest(){
+        NumberExpression<Integer> rankPath = new CaseBuilder()
+                .when(member.age.between(0, 20)).then(2)
+                .when(member.age.between(21, 30)).then(1)
+                .otherwise(3);
+
+        Function<MemberTeamDto, Integer> rank = evaluator.value(rankPath).orElseThrow();
+        assertThat(rows).extracting(rank::apply).containsExactly(2, 1, 1, 3);
+
+        Comparator<MemberTeamDto> order = evaluator.comparator(List.of(rankPath.desc(), member.id.desc())).orElseThrow();
+        assertThat(rows.stream().sorted(order)).extracting(MemberTeamDto::getMemberId).containsExactly(4L, 1L, 3L, 2L);
+    }
+
+    @Test
+    public void unsupportedTest(){
+        // 등록되지 않은 경로, like, 문자열 정렬/범위 비교
+        assertThat(evaluator.predicate(member.team.id.eq(1L))).isEmpty();
+        assertThat(evaluator.predicate(member.username.like("member%"))).isEmpty();
+        assertThat(evaluator.predicate(member.username.gt("member2"))).isEmpty();
+        assertThat(evaluator.comparator(List.of(member.username.asc()))).isEmpty();
+    }
+
+    private List<Long> filter(com.querydsl.core.types.Predicate where) {
+        Predicate<MemberTeamDto> predicate = evaluator.predicate(where).orElseThrow();
+        return rows.stream().filter(predicate).map(MemberTeamDto::getMemberId).toList();
+    }
+}
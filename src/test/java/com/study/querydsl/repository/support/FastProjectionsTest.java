@@ -0,0 +1,158 @@
+package com.study.querydsl.repository.support;
+
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.querydsl.dto.MemberDto;
+import com.study.querydsl.dto.MemberTeamRecordDto;
+import com.study.querydsl.dto.UserDto;
+import com.study.querydsl.entity.Member;
+import com.study.querydsl.entity.QMember;
+import com.study.querydsl.entity.Team;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.study.querydsl.entity.QMember.member;
+import static com.study.querydsl.entity.QTeam.team;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+public class FastProjectionsTest {
+
+    @Autowired
+    EntityManager em;
+
+    JPAQueryFactory queryFactory;
+
+    @BeforeEach
+    public void before(){
+        queryFactory = new JPAQueryFactory(em);
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+
+        em.persist(new Member("member1", 10, teamA));
+        em.persist(new Member("member2", 20, teamA));
+        em.persist(new Member("member3", 30, teamB));
+        em.persist(new Member("member4", 40, teamB));
+    }
+
+    @Test
+    public void beanTest(){
+        List<MemberDto> expected = queryFactory
+                .select(Projections.bean(MemberDto.class, member.username, member.age))
+                .from(member)
+                .orderBy(member.id.asc())
+                .fetch();
+
+        List<MemberDto> result = queryFactory
+                .select(FastProjections.bean(MemberDto.class, member.username, member.age))
+                .from(member)
+                .orderBy(member.id.asc())
+                .fetch();
+
+        assertThat(result).hasSize(4).isEqualTo(expected);
+    }
+
+    @Test
+    public void fieldsAliasTest(){
+        QMember memberSub = new QMember("memberSub");
+
+        List<UserDto> result = queryFactory
+                .select(FastProjections.fields(UserDto.class,
+                        member.username.as("name"),
+                        ExpressionUtils.as(JPAExpressions
+                                .select(memberSub.age.max())
+                                .from(memberSub), "age")
+                ))
+                .from(member)
+                .orderBy(member.id.asc())
+                .fetch();
+
+        assertThat(result).extracting(UserDto::getName)
+                .containsExactly("member1", "member2", "member3", "member4");
+        assertThat(result).extracting(UserDto::getAge).containsOnly(40);
+    }
+
+    @Test
+    public void constructorTest(){
+        List<UserDto> expected = queryFactory
+                .select(Projections.constructor(UserDto.class, member.username, member.age))
+                .from(member)
+                .orderBy(member.id.asc())
+                .fetch();
+
+        List<UserDto> result = queryFactory
+                .select(FastProjections.constructor(UserDto.class, member.username, member.age))
+                .from(member)
+                .orderBy(member.id.asc())
+                .fetch();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    public void recordTest(){
+        // record는 컴포넌트 이름으로 매칭되므로 순서가 달라도 된다.
+        List<MemberTeamRecordDto> result = queryFactory
+                .select(FastProjections.fields(MemberTeamRecordDto.class,
+                        team.name.as("teamName"),
+                        member.username,
+                        member.age,
+                        member.id.as("memberId"),
+                        team.id.as("teamId")
+                ))
+                .from(member)
+                .leftJoin(member.team, team)
+                .orderBy(member.id.asc())
+                .fetch();
+
+        assertThat(result).extracting(MemberTeamRecordDto::username, MemberTeamRecordDto::teamName)
+                .containsExactly(
+                        tuple("member1", "TeamA"),
+                        tuple("member2", "TeamA"),
+                        tuple("member3", "TeamB"),
+                        tuple("member4", "TeamB"));
+    }
+
+    @Test
+    public void nullPrimitiveTest(){
+        em.persist(new Member("noAge", 0));
+        em.flush();
+        QMember memberSub = new QMember("memberSub");
+
+        // 집계 결과가 null인 primitive 자리는 생성자 : 기본값, setter : 건너뜀
+        UserDto byConstructor = queryFactory
+                .select(FastProjections.constructor(UserDto.class,
+                        member.username,
+                        JPAExpressions.select(memberSub.age.max()).from(memberSub).where(memberSub.username.eq("none"))
+                ))
+                .from(member)
+                .where(member.username.eq("noAge"))
+                .fetchOne();
+        assertThat(byConstructor.getAge()).isZero();
+
+        MemberDto byBean = queryFactory
+                .select(FastProjections.bean(MemberDto.class,
+                        member.username,
+                        ExpressionUtils.as(JPAExpressions
+                                .select(memberSub.age.max())
+                                .from(memberSub)
+                                .where(memberSub.username.eq("none")), "age")
+                ))
+                .from(member)
+                .where(member.username.eq("noAge"))
+                .fetchOne();
+        assertThat(byBean.getAge()).isZero();
+    }
+}
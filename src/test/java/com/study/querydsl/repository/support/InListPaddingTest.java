@@ -0,0 +1,31 @@
+package com.study.querydsl.repository.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InListPaddingTest {
+
+    @Test
+    public void padTest(){
+        assertThat(InListPadding.pad(List.of(1), 100)).containsExactly(1);
+        assertThat(InListPadding.pad(List.of(1, 2, 3), 100)).containsExactly(1, 2, 3, 3);
+        assertThat(InListPadding.pad(List.of(1, 2, 3, 4, 5), 100)).hasSize(8).endsWith(5, 5, 5, 5);
+        assertThat(InListPadding.pad(range(90), 100)).hasSize(100);
+    }
+
+    @Test
+    public void partitionTest(){
+        List<List<Integer>> batches = InListPadding.partition(range(250), 100);
+
+        assertThat(batches).extracting(List::size).containsExactly(100, 100, 64);
+        assertThat(batches.get(2)).startsWith(200).endsWith(249);
+    }
+
+    private static List<Integer> range(int n) {
+        return IntStream.range(0, n).boxed().toList();
+    }
+}